@@ -9,7 +9,6 @@ import app.mockly.domain.auth.service.JwtService;
 import app.mockly.global.common.ApiResponse;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
-import org.springframework.context.annotation.Profile;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
@@ -62,10 +61,9 @@ public class AuthController {
         return ResponseEntity.ok(ApiResponse.noContent());
     }
 
-    @PostMapping("/dev/login")
-    @Profile("!prod")
-    public ResponseEntity<ApiResponse<LoginResponse>> devLogin(@RequestBody DevLoginRequest request) {
-        LoginResponse loginResponse = authService.loginWithDev(request);
-        return ResponseEntity.ok(ApiResponse.success(loginResponse));
+    @PostMapping("/logout-all")
+    public ResponseEntity<ApiResponse<Void>> logoutAll(@AuthenticationPrincipal UUID userId) {
+        authService.logoutAll(userId);
+        return ResponseEntity.ok(ApiResponse.noContent());
     }
 }
@@ -0,0 +1,30 @@
+package app.mockly.domain.auth.controller;
+
+import app.mockly.domain.auth.dto.request.DevLoginRequest;
+import app.mockly.domain.auth.dto.response.LoginResponse;
+import app.mockly.domain.auth.service.AuthService;
+import app.mockly.global.common.ApiResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * 개발용 로그인 (이메일만으로 로그인, prod 프로필에서는 빈이 등록되지 않음)
+ */
+@Profile("!prod")
+@RestController
+@RequestMapping("/api/auth")
+@RequiredArgsConstructor
+public class DevAuthController {
+    private final AuthService authService;
+
+    @PostMapping("/dev/login")
+    public ResponseEntity<ApiResponse<LoginResponse>> devLogin(@RequestBody DevLoginRequest request) {
+        LoginResponse loginResponse = authService.loginWithDev(request);
+        return ResponseEntity.ok(ApiResponse.success(loginResponse));
+    }
+}
@@ -0,0 +1,13 @@
+package app.mockly.domain.auth.dto;
+
+import java.time.Instant;
+import java.util.UUID;
+
+public record AccessTokenClaims(
+        UUID userId,
+        String tokenId, // jti (jti가 없는 이전 토큰은 토큰 digest)
+        Instant issuedAt, // 밀리초 단위 (jti의 UUIDv7 시각), jti가 없는 이전 토큰은 초 단위 iat
+        Instant expiresAt,
+        String legacyToken // jti가 없는 이전 토큰이면 토큰 원문 (배포 전 blacklist:token:{token} 키 조회용), 아니면 null
+) {
+}
@@ -0,0 +1,44 @@
+package app.mockly.domain.auth.dto;
+
+import app.mockly.domain.auth.entity.User;
+import app.mockly.domain.product.entity.Subscription;
+import app.mockly.domain.product.entity.SubscriptionProduct;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 인증된 사용자 정보 (인증 캐시에 보관)
+ * 활성 구독이 없으면 planId, productName, maxSessions는 null, entitlements는 빈 리스트
+ */
+public record AuthenticatedUser(
+        UUID userId,
+        String email,
+        String name,
+        boolean admin,
+        Integer planId,
+        String productName,
+        List<String> entitlements,
+        Integer maxSessions
+) {
+    public static AuthenticatedUser of(User user, Subscription activeSubscription) {
+        if (activeSubscription == null) {
+            return new AuthenticatedUser(user.getId(), user.getEmail(), user.getName(), user.isAdmin(), null, null, List.of(), null);
+        }
+        SubscriptionProduct product = activeSubscription.getSubscriptionPlan().getProduct();
+        return new AuthenticatedUser(
+                user.getId(),
+                user.getEmail(),
+                user.getName(),
+                user.isAdmin(),
+                activeSubscription.getSubscriptionPlan().getId(),
+                product.getName(),
+                List.copyOf(product.getFeatures()),
+                product.getMaxSessions()
+        );
+    }
+
+    public boolean hasEntitlement(String entitlement) {
+        return entitlements.contains(entitlement);
+    }
+}
@@ -14,4 +14,12 @@ public record UserInfo(
                 user.getName()
         );
     }
+
+    public static UserInfo from(AuthenticatedUser user) {
+        return new UserInfo(
+                user.userId().toString(),
+                user.email(),
+                user.name()
+        );
+    }
 }
@@ -1,6 +1,7 @@
 package app.mockly.domain.auth.entity;
 
 import app.mockly.global.common.BaseEntity;
+import app.mockly.global.security.TokenDigest;
 import jakarta.persistence.*;
 import lombok.*;
 
@@ -21,12 +22,33 @@ public class RefreshToken extends BaseEntity {
     @JoinColumn(name = "session_id")
     private Session session;
 
-    @Column(nullable = false, unique = true, length = 512)
-    private String token;
+    // 토큰 원문 대신 SHA-256 digest(43자) 저장 (기존 행이 있는 테이블에 ddl-auto로 추가되므로 DB 제약은 nullable)
+    @Column(name = "token_hash", unique = true, length = 64)
+    private String tokenHash;
+
+    // 이전 버전이 쓰던 원문 컬럼, 롤링 배포 중 이전 버전 노드를 위해 남겨 둔다 (새 버전은 쓰지 않음, 다음 릴리스에서 삭제)
+    @Column(name = "token", length = 512)
+    private String legacyToken;
 
     @Column(nullable = false)
     private Instant expiresAt;
 
+    public static RefreshToken create(String token, Instant expiresAt) {
+        return RefreshToken.builder()
+                .tokenHash(TokenDigest.sha256(token))
+                .expiresAt(expiresAt)
+                .build();
+    }
+
+    /**
+     * 이전 버전이 원문으로 저장한 행에 digest 기록 (원문 컬럼은 이전 버전 노드가 계속 조회하므로 그대로 둔다)
+     */
+    public void backfillTokenHash(String token) {
+        if (tokenHash == null) {
+            this.tokenHash = TokenDigest.sha256(token);
+        }
+    }
+
     public boolean isExpired() {
         return Instant.now().isAfter(expiresAt);
     }
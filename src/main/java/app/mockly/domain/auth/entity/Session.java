@@ -48,12 +48,6 @@ public class Session extends BaseEntity {
                 .build();
     }
 
-    public void updateAccessInfo(LocationInfo locationInfo) {
-        this.latitude = locationInfo != null ? locationInfo.latitude() : null;
-        this.longitude = locationInfo != null ? locationInfo.longitude() : null;
-        this.lastAccessedAt = Instant.now();
-    }
-
     public void updateRefreshToken(RefreshToken refreshToken) {
         // 기존 RefreshToken과의 관계 끊기
         if (this.refreshToken != null) {
@@ -36,6 +36,12 @@ public class User extends BaseEntity {
     @Column(nullable = false)
     private String name;
 
+    // 기존 행이 있는 테이블에 ddl-auto로 추가되므로 DB 기본값 지정
+    @Builder.Default
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20, columnDefinition = "VARCHAR(20) DEFAULT 'USER'")
+    private UserRole role = UserRole.USER;
+
     @Builder.Default
     @OneToMany(mappedBy = "user", cascade = CascadeType.ALL, orphanRemoval = true)
     private List<Session> sessions = new ArrayList<>();
@@ -49,6 +55,10 @@ public class User extends BaseEntity {
                 .build();
     }
 
+    public boolean isAdmin() {
+        return role == UserRole.ADMIN;
+    }
+
     @PrePersist
     public void generateId() {
         if (this.id == null) {
@@ -0,0 +1,6 @@
+package app.mockly.domain.auth.entity;
+
+public enum UserRole {
+    USER,
+    ADMIN // actuator 접근, Outbox 재처리 (DB에서 직접 부여)
+}
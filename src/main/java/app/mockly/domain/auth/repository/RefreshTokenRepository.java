@@ -1,17 +1,76 @@
 package app.mockly.domain.auth.repository;
 
 import app.mockly.domain.auth.entity.RefreshToken;
+import app.mockly.global.security.TokenDigest;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.time.Instant;
 import java.util.Optional;
+import java.util.UUID;
 
 public interface RefreshTokenRepository extends JpaRepository<RefreshToken, Long> {
-    Optional<RefreshToken> findByToken(String token);
+    /**
+     * 토큰, 세션, 사용자를 한 번에 조회
+     */
+    @Query("SELECT rt " +
+            "FROM RefreshToken rt " +
+            "LEFT JOIN FETCH rt.session s " +
+            "LEFT JOIN FETCH s.user " +
+            "WHERE rt.tokenHash = :tokenHash")
+    Optional<RefreshToken> findWithSessionByTokenHash(@Param("tokenHash") String tokenHash);
+
+    /**
+     * 이전 버전이 원문 컬럼(token)에만 저장한 행 조회 (롤링 배포 중 이전 버전 노드가 발급한 토큰 포함)
+     */
+    @Query("SELECT rt " +
+            "FROM RefreshToken rt " +
+            "LEFT JOIN FETCH rt.session s " +
+            "LEFT JOIN FETCH s.user " +
+            "WHERE rt.tokenHash IS NULL AND rt.legacyToken = :token")
+    Optional<RefreshToken> findWithSessionByLegacyToken(@Param("token") String token);
+
+    /**
+     * digest로 조회하고, 없으면 원문 컬럼에서 찾아 digest를 채운다 (트랜잭션 안에서 호출하면 변경 감지로 저장)
+     */
+    default Optional<RefreshToken> findByToken(String token) {
+        return findWithSessionByTokenHash(TokenDigest.sha256(token))
+                .or(() -> findWithSessionByLegacyToken(token)
+                        .map(refreshToken -> {
+                            refreshToken.backfillTokenHash(token);
+                            return refreshToken;
+                        }));
+    }
 
     @Modifying
-    @Query("DELETE FROM RefreshToken rt WHERE rt.token = :token")
-    void deleteByToken(@Param("token") String token);
+    @Query("DELETE FROM RefreshToken rt WHERE rt.tokenHash = :tokenHash")
+    void deleteByTokenHash(@Param("tokenHash") String tokenHash);
+
+    default void deleteByToken(String token) {
+        deleteByTokenHash(TokenDigest.sha256(token));
+    }
+
+    /**
+     * 사용자의 모든 Refresh Token 삭제 (세션은 유지, 재로그인 필요)
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query(value = "DELETE FROM refresh_token " +
+            "WHERE session_id IN (SELECT s.id FROM session s WHERE s.user_id = :userId)", nativeQuery = true)
+    int deleteAllByUserId(@Param("userId") UUID userId);
+
+    /**
+     * 사용자의 유효한 Refresh Token 중 최근 keep개만 남기고 삭제 (세션은 유지, 재로그인 필요)
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query(value = "DELETE FROM refresh_token " +
+            "WHERE id IN (" +
+            "    SELECT rt.id FROM refresh_token rt " +
+            "    JOIN session s ON s.id = rt.session_id " +
+            "    WHERE s.user_id = :userId AND rt.expires_at > :now " +
+            "    ORDER BY rt.created_at DESC, rt.id DESC " +
+            "    OFFSET :keep ROWS" +
+            ")", nativeQuery = true)
+    int deleteAllExceptMostRecent(@Param("userId") UUID userId, @Param("keep") int keep, @Param("now") Instant now);
 }
@@ -17,14 +17,16 @@ import app.mockly.domain.auth.repository.UserRepository;
 import app.mockly.domain.product.service.SubscriptionService;
 import app.mockly.global.common.ApiStatusCode;
 import app.mockly.global.config.JwtProperties;
-import app.mockly.global.exception.BusinessException;
+import app.mockly.global.config.SessionProperties;
 import app.mockly.global.exception.InvalidTokenException;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.Instant;
-import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
 @Service
@@ -33,7 +35,12 @@ public class AuthService {
     private final GoogleOAuthService googleOAuthService;
     private final JwtService jwtService;
     private final JwtProperties jwtProperties;
+    private final SessionProperties sessionProperties;
     private final TokenBlacklistService tokenBlacklistService;
+    private final PrincipalService principalService;
+    private final SessionAccessTracker sessionAccessTracker;
+    private final GooglePublicKeyCache googlePublicKeyCache;
+    private final LoginMetrics loginMetrics;
     private final SubscriptionService subscriptionService;
 
     private final UserRepository userRepository;
@@ -59,7 +66,7 @@ public class AuthService {
         String refreshTokenValue = jwtService.generateRefreshToken();
         RefreshToken refreshToken = createRefreshToken(refreshTokenValue);
         session.updateRefreshToken(refreshToken);
-        session.updateAccessInfo(request.locationInfo());
+        sessionAccessTracker.record(session.getId(), request.locationInfo());
 
         removeOldestSessions(user);
 
@@ -75,22 +82,37 @@ public class AuthService {
     @Transactional
     public LoginResponse loginWithGoogleCode(String code, String codeVerifier, String redirectUri,
                                              DeviceInfo deviceInfo, LocationInfo locationInfo) {
+        Timer.Sample loginSample = loginMetrics.start();
+
+        Timer.Sample stageSample = loginMetrics.start();
         String idToken = googleOAuthService.exchangeAuthorizationCode(code, codeVerifier, redirectUri);
+        loginMetrics.recordStage(stageSample, LoginMetrics.STAGE_CODE_EXCHANGE, Tags.empty());
+
+        stageSample = loginMetrics.start();
+        boolean publicKeyCached = googlePublicKeyCache.isFresh();
         GoogleUser googleUser = googleOAuthService.verifyIdToken(idToken);
-        User user = userRepository.findByProviderAndProviderId(OAuth2Provider.GOOGLE, googleUser.sub())
-                .orElseGet(() -> createUser(googleUser));
+        loginMetrics.recordStage(stageSample, LoginMetrics.STAGE_ID_TOKEN_VERIFY, LoginMetrics.cacheTag(publicKeyCached));
+
+        stageSample = loginMetrics.start();
+        Optional<User> existingUser = userRepository.findByProviderAndProviderId(OAuth2Provider.GOOGLE, googleUser.sub());
+        boolean newUser = existingUser.isEmpty();
+        User user = existingUser.orElseGet(() -> createUser(googleUser));
+        loginMetrics.recordStage(stageSample, LoginMetrics.STAGE_USER_UPSERT, LoginMetrics.userTag(newUser));
 
+        stageSample = loginMetrics.start();
         Session session = sessionRepository.findByUserAndDeviceId(user, deviceInfo.deviceId())
                 .orElseGet(() -> createSession(user, deviceInfo, locationInfo));
 
         String refreshTokenValue = jwtService.generateRefreshToken();
         RefreshToken refreshToken = createRefreshToken(refreshTokenValue);
         session.updateRefreshToken(refreshToken);
-        session.updateAccessInfo(locationInfo);
+        sessionAccessTracker.record(session.getId(), locationInfo);
 
         removeOldestSessions(user);
+        loginMetrics.recordStage(stageSample, LoginMetrics.STAGE_SESSION_CREATE, LoginMetrics.userTag(newUser));
 
         String accessToken = jwtService.generateAccessToken(user.getId());
+        loginMetrics.recordLogin(loginSample, newUser);
         return new LoginResponse(
                 accessToken,
                 refreshTokenValue,
@@ -116,23 +138,13 @@ public class AuthService {
         Instant expiresAt = Instant.now()
                 .plusMillis(jwtProperties.getRefreshTokenExpiration());
 
-        RefreshToken refreshToken = RefreshToken.builder()
-                .token(token)
-                .expiresAt(expiresAt)
-                .build();
-        return refreshTokenRepository.save(refreshToken);
+        return refreshTokenRepository.save(RefreshToken.create(token, expiresAt));
     }
 
     private void removeOldestSessions(User user) {
-        List<Session> activeSessions = sessionRepository.findActiveSessionsByUser(user, Instant.now());
-
-        if (activeSessions.size() > 2) {
-            int deleteCount = activeSessions.size() - 2;
-            List<Session> sessionsToDelete = activeSessions.subList(0, deleteCount);
-            for (Session session: sessionsToDelete) {
-                session.updateRefreshToken(null);
-            }
-        }
+        Integer planMaxSessions = principalService.load(user.getId()).maxSessions();
+        int maxSessions = planMaxSessions != null ? planMaxSessions : sessionProperties.getMaxSessions();
+        refreshTokenRepository.deleteAllExceptMostRecent(user.getId(), maxSessions, Instant.now());
     }
 
     @Transactional
@@ -158,7 +170,7 @@ public class AuthService {
         String newRefreshTokenValue = jwtService.generateRefreshToken();
         RefreshToken newRefreshToken = createRefreshToken(newRefreshTokenValue);
         session.updateRefreshToken(newRefreshToken);
-        session.updateAccessInfo(locationInfo);
+        sessionAccessTracker.record(session.getId(), locationInfo);
 
         String newAccessToken = jwtService.generateAccessToken(user.getId());
         return new RefreshTokenResponse(
@@ -170,18 +182,14 @@ public class AuthService {
 
     @Transactional(readOnly = true)
     public UserInfo getCurrentUser(UUID userId) {
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new BusinessException(ApiStatusCode.USER_NOT_FOUND));
-        return UserInfo.from(user);
+        return UserInfo.from(principalService.load(userId));
     }
 
     @Transactional
     public void logout(String accessToken, String refreshToken) {
         if (accessToken != null) {
-            long remainingExpiration = jwtService.getRemainingExpiration(accessToken);
-            if (remainingExpiration > 0) {
-                tokenBlacklistService.save(accessToken, remainingExpiration);
-            }
+            jwtService.findAccessTokenClaims(accessToken)
+                    .ifPresent(tokenBlacklistService::blacklist);
         }
 
         refreshTokenRepository.findByToken(refreshToken)
@@ -192,4 +200,15 @@ public class AuthService {
                     }
                 });
     }
+
+    /**
+     * 모든 기기에서 로그아웃
+     * Refresh Token을 모두 삭제하고, 지금까지 발급된 Access Token은 사용자 워터마크로 한 번에 폐기한다.
+     */
+    @Transactional
+    public void logoutAll(UUID userId) {
+        refreshTokenRepository.deleteAllByUserId(userId);
+        // Redis 기록에 실패하면 Refresh Token 삭제도 롤백
+        tokenBlacklistService.revokeAllIssuedBefore(userId, Instant.now());
+    }
 }
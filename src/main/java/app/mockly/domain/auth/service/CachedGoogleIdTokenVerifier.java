@@ -0,0 +1,36 @@
+package app.mockly.domain.auth.service;
+
+import com.google.api.client.googleapis.auth.oauth2.GoogleIdToken;
+import com.google.api.client.googleapis.auth.oauth2.GoogleIdTokenVerifier;
+
+import java.io.IOException;
+import java.security.GeneralSecurityException;
+import java.security.PublicKey;
+
+/**
+ * 공개키를 GooglePublicKeysManager(조회 중 lock) 대신 {@link GooglePublicKeyCache}에서 가져오는 verifier
+ */
+public class CachedGoogleIdTokenVerifier extends GoogleIdTokenVerifier {
+    private final GooglePublicKeyCache publicKeyCache;
+
+    public CachedGoogleIdTokenVerifier(Builder builder, GooglePublicKeyCache publicKeyCache) {
+        super(builder);
+        this.publicKeyCache = publicKeyCache;
+    }
+
+    @Override
+    public boolean verify(GoogleIdToken googleIdToken) throws GeneralSecurityException, IOException {
+        if (!googleIdToken.verifyIssuer(getIssuers())
+                || !googleIdToken.verifyAudience(getAudience())
+                || !googleIdToken.verifyTime(getClock().currentTimeMillis(), getAcceptableTimeSkewSeconds())) {
+            return false;
+        }
+
+        for (PublicKey publicKey : publicKeyCache.getPublicKeys()) {
+            if (googleIdToken.verifySignature(publicKey)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,36 @@
+package app.mockly.domain.auth.service;
+
+import app.mockly.domain.auth.dto.AuthenticatedUser;
+import app.mockly.global.config.PrincipalCacheProperties;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.stereotype.Component;
+
+import java.util.UUID;
+import java.util.function.Function;
+
+/**
+ * 노드 로컬 인증 캐시
+ * 무효화는 같은 노드에서 발생한 구독 변경에만 즉시 반영되고, 다른 노드는 TTL 만료 후 반영된다.
+ */
+@Component
+public class CaffeinePrincipalCache implements PrincipalCache {
+    private final Cache<UUID, AuthenticatedUser> cache;
+
+    public CaffeinePrincipalCache(PrincipalCacheProperties properties) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(properties.getMaxSize())
+                .expireAfterWrite(properties.getTtl())
+                .build();
+    }
+
+    @Override
+    public AuthenticatedUser get(UUID userId, Function<UUID, AuthenticatedUser> loader) {
+        return cache.get(userId, loader);
+    }
+
+    @Override
+    public void evict(UUID userId) {
+        cache.invalidate(userId);
+    }
+}
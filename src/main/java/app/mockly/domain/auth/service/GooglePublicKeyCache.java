@@ -0,0 +1,177 @@
+package app.mockly.domain.auth.service;
+
+import app.mockly.global.config.OAuth2Properties;
+import com.fasterxml.jackson.databind.JsonNode;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.http.ResponseEntity;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestClient;
+
+import java.io.IOException;
+import java.math.BigInteger;
+import java.security.GeneralSecurityException;
+import java.security.KeyFactory;
+import java.security.PublicKey;
+import java.security.spec.RSAPublicKeySpec;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Google ID Token 서명 검증용 공개키 캐시
+ * - Cache-Control max-age 동안 유지하고, 만료 전(80% 시점)에 백그라운드에서 갱신
+ * - 동시에 여러 요청이 갱신을 필요로 해도 실제 조회는 한 번만 수행 (single-flight)
+ * - 갱신에 실패하면 만료된 키라도 계속 사용
+ */
+@Slf4j
+@Component
+public class GooglePublicKeyCache {
+    private static final Pattern MAX_AGE_PATTERN = Pattern.compile("max-age=(\\d+)");
+    private static final Duration DEFAULT_MAX_AGE = Duration.ofHours(1);
+    private static final double REFRESH_RATIO = 0.8;
+
+    private final RestClient restClient;
+    private final OAuth2Properties properties;
+
+    private volatile PublicKeys publicKeys;
+    private final AtomicReference<CompletableFuture<PublicKeys>> inFlight = new AtomicReference<>();
+
+    private record PublicKeys(List<PublicKey> keys, Instant refreshAt, Instant expiresAt) {
+    }
+
+    public GooglePublicKeyCache(RestClient restClient, OAuth2Properties properties) {
+        this.restClient = restClient;
+        this.properties = properties;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void prewarm() {
+        if (!properties.isPrewarmPublicKeys()) {
+            return;
+        }
+        try {
+            refresh().join();
+            log.info("Google 공개키 조회 완료 - {}개", publicKeys.keys().size());
+        } catch (CompletionException e) {
+            log.warn("Google 공개키 사전 조회 실패, 첫 로그인 시 다시 조회", e.getCause());
+        }
+    }
+
+    /**
+     * 한 번이라도 조회된 이후에만 백그라운드 갱신
+     */
+    @Scheduled(fixedDelay = 60000)
+    public void refreshIfStale() {
+        PublicKeys current = publicKeys;
+        if (current == null || Instant.now().isBefore(current.refreshAt())) {
+            return;
+        }
+        refresh().exceptionally(e -> {
+            log.warn("Google 공개키 갱신 실패, 기존 키 유지", e);
+            return null;
+        });
+    }
+
+    /**
+     * 만료되지 않은 공개키를 보유 중인지 (검증 시 조회 없이 처리 가능한지)
+     */
+    public boolean isFresh() {
+        PublicKeys current = publicKeys;
+        return current != null && Instant.now().isBefore(current.expiresAt());
+    }
+
+    public List<PublicKey> getPublicKeys() throws GeneralSecurityException, IOException {
+        PublicKeys current = publicKeys;
+        if (current != null && Instant.now().isBefore(current.expiresAt())) {
+            return current.keys();
+        }
+
+        try {
+            return refresh().join().keys();
+        } catch (CompletionException e) {
+            if (current != null) {
+                log.warn("Google 공개키 갱신 실패, 만료된 키로 검증", e.getCause());
+                return current.keys();
+            }
+            if (e.getCause() instanceof GeneralSecurityException cause) {
+                throw cause;
+            }
+            throw new IOException("Google 공개키 조회에 실패했습니다", e.getCause());
+        }
+    }
+
+    private CompletableFuture<PublicKeys> refresh() {
+        CompletableFuture<PublicKeys> future = new CompletableFuture<>();
+        CompletableFuture<PublicKeys> existing = inFlight.compareAndExchange(null, future);
+        if (existing != null) {
+            return existing;
+        }
+
+        try {
+            // 다른 요청의 갱신이 끝난 직후 들어온 경우 다시 조회하지 않음
+            PublicKeys current = publicKeys;
+            if (current != null && Instant.now().isBefore(current.refreshAt())) {
+                future.complete(current);
+                return future;
+            }
+
+            PublicKeys fetched = fetch();
+            publicKeys = fetched;
+            future.complete(fetched);
+        } catch (Exception e) {
+            future.completeExceptionally(e);
+        } finally {
+            inFlight.set(null);
+        }
+        return future;
+    }
+
+    private PublicKeys fetch() throws GeneralSecurityException {
+        ResponseEntity<JsonNode> response = restClient.get()
+                .uri(properties.getCertsUri())
+                .retrieve()
+                .toEntity(JsonNode.class);
+
+        JsonNode body = response.getBody();
+        if (body == null || !body.path("keys").isArray()) {
+            throw new IllegalStateException("Google 공개키 응답 형식이 올바르지 않습니다");
+        }
+
+        KeyFactory keyFactory = KeyFactory.getInstance("RSA");
+        List<PublicKey> keys = new ArrayList<>();
+        for (JsonNode jwk : body.path("keys")) {
+            if (!"RSA".equals(jwk.path("kty").asText())) {
+                continue;
+            }
+            BigInteger modulus = new BigInteger(1, Base64.getUrlDecoder().decode(jwk.path("n").asText()));
+            BigInteger exponent = new BigInteger(1, Base64.getUrlDecoder().decode(jwk.path("e").asText()));
+            keys.add(keyFactory.generatePublic(new RSAPublicKeySpec(modulus, exponent)));
+        }
+
+        Duration maxAge = parseMaxAge(response.getHeaders().getCacheControl());
+        Instant now = Instant.now();
+        return new PublicKeys(
+                List.copyOf(keys),
+                now.plusMillis((long) (maxAge.toMillis() * REFRESH_RATIO)),
+                now.plus(maxAge)
+        );
+    }
+
+    private Duration parseMaxAge(String cacheControl) {
+        if (cacheControl == null) {
+            return DEFAULT_MAX_AGE;
+        }
+        Matcher matcher = MAX_AGE_PATTERN.matcher(cacheControl);
+        return matcher.find() ? Duration.ofSeconds(Long.parseLong(matcher.group(1))) : DEFAULT_MAX_AGE;
+    }
+}
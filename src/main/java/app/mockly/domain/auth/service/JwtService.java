@@ -1,19 +1,30 @@
 package app.mockly.domain.auth.service;
 
+import app.mockly.domain.auth.dto.AccessTokenClaims;
 import app.mockly.global.common.ApiStatusCode;
 import app.mockly.global.config.JwtProperties;
 import app.mockly.global.exception.InvalidTokenException;
+import app.mockly.global.security.TokenDigest;
+import com.fasterxml.uuid.Generators;
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.ExpiredJwtException;
 import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.security.Keys;
+import io.jsonwebtoken.security.SignatureException;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
+import org.springframework.util.StringUtils;
 
 import javax.crypto.SecretKey;
+import java.nio.ByteBuffer;
 import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Base64;
 import java.util.Date;
+import java.util.Objects;
+import java.util.Optional;
 import java.util.UUID;
 
 @Service
@@ -21,16 +32,22 @@ import java.util.UUID;
 public class JwtService {
     private final JwtProperties jwtProperties;
 
+    // 서명 키와 파서는 생성 비용이 커서 미리 만들어두고, JwtProperties의 secret이 바뀔 때만 다시 만든다.
+    private volatile SigningKeys signingKeys;
+
     // TODO: 추후 Membership 추가 시, Role 추가
     public String generateAccessToken(UUID userId) {
-        Date now = new Date();
+        // jti(UUIDv7)에 담긴 시각을 발급 시각으로 사용 (iat는 초 단위라 같은 초에 발급된 토큰을 구분할 수 없음)
+        UUID tokenId = Generators.timeBasedEpochGenerator().generate();
+        Date now = new Date(epochMillisOf(tokenId));
         Date expiryDate = new Date(now.getTime() + jwtProperties.getAccessTokenExpiration());
 
         return Jwts.builder()
+                .id(encodeTokenId(tokenId))
                 .subject(userId.toString())
                 .issuedAt(now)
                 .expiration(expiryDate)
-                .signWith(getSigningKey())
+                .signWith(getSigningKeys().key())
                 .compact();
     }
 
@@ -38,40 +55,129 @@ public class JwtService {
         return UUID.randomUUID().toString();
     }
 
-    private SecretKey getSigningKey() {
-        byte[] keyBytes = jwtProperties.getSecret().getBytes(StandardCharsets.UTF_8);
-        return Keys.hmacShaKeyFor(keyBytes);
+    public UUID validateAccessToken(String token) {
+        return parseAccessToken(token).userId();
     }
 
-    public UUID validateAccessToken(String token) {
+    public AccessTokenClaims parseAccessToken(String token) {
         try {
-            Claims claims = extractClaims(token);
-            String userId = claims.getSubject();
-            return UUID.fromString(userId);
+            return toAccessTokenClaims(token, extractClaims(token));
         } catch (ExpiredJwtException e) {
             throw new InvalidTokenException(ApiStatusCode.EXPIRED_TOKEN, "만료된 토큰입니다.");
-        } catch (JwtException e) {
+        } catch (JwtException | IllegalArgumentException e) {
             throw new InvalidTokenException(ApiStatusCode.INVALID_TOKEN, "유효하지 않은 토큰입니다");
         }
     }
 
-    public long getRemainingExpiration(String token) {
+    /**
+     * 아직 유효한 토큰이면 claims 반환, 만료되었거나 유효하지 않으면 empty
+     */
+    public Optional<AccessTokenClaims> findAccessTokenClaims(String token) {
         try {
-            Claims claims = extractClaims(token);
-            Date expiration = claims.getExpiration();
-            long expirationMs = expiration.getTime();
-            long nowMs = System.currentTimeMillis();
-            return expirationMs - nowMs;
-        } catch (JwtException e) {
-            return -1;
+            return Optional.of(toAccessTokenClaims(token, extractClaims(token)));
+        } catch (JwtException | IllegalArgumentException e) {
+            return Optional.empty();
+        }
+    }
+
+    private AccessTokenClaims toAccessTokenClaims(String token, Claims claims) {
+        // jti 도입 이전에 발급된 토큰은 토큰 digest를 식별자로 사용
+        boolean legacy = claims.getId() == null;
+        return new AccessTokenClaims(
+                UUID.fromString(claims.getSubject()),
+                legacy ? TokenDigest.sha256(token) : claims.getId(),
+                issuedAtOf(claims),
+                claims.getExpiration().toInstant(),
+                legacy ? token : null
+        );
+    }
+
+    /**
+     * UUIDv7을 base64url로 인코딩한 22자 토큰 ID
+     */
+    private static String encodeTokenId(UUID uuid) {
+        ByteBuffer buffer = ByteBuffer.allocate(16)
+                .putLong(uuid.getMostSignificantBits())
+                .putLong(uuid.getLeastSignificantBits());
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(buffer.array());
+    }
+
+    /**
+     * 밀리초 단위 발급 시각 (jti의 UUIDv7 시각), jti가 없거나 UUIDv7이 아니면 초 단위 iat
+     */
+    private static Instant issuedAtOf(Claims claims) {
+        if (claims.getId() != null) {
+            try {
+                ByteBuffer buffer = ByteBuffer.wrap(Base64.getUrlDecoder().decode(claims.getId()));
+                if (buffer.remaining() == 16) {
+                    UUID uuid = new UUID(buffer.getLong(), buffer.getLong());
+                    if (uuid.version() == 7) {
+                        return Instant.ofEpochMilli(epochMillisOf(uuid));
+                    }
+                }
+            } catch (IllegalArgumentException e) {
+                // 형식이 다른 jti는 iat 사용
+            }
         }
+        return claims.getIssuedAt().toInstant();
+    }
+
+    private static long epochMillisOf(UUID uuidV7) {
+        return uuidV7.getMostSignificantBits() >>> 16; // 상위 48비트 = Unix epoch 밀리초
     }
 
+    /**
+     * 현재 키로 검증하고, 서명이 맞지 않으면 키 교체 직전의 이전 키로 한 번 더 검증
+     */
     private Claims extractClaims(String token) {
-        return Jwts.parser()
-                .verifyWith(getSigningKey())
-                .build()
-                .parseSignedClaims(token)
-                .getPayload();
+        SigningKeys keys = getSigningKeys();
+        try {
+            return keys.parser().parseSignedClaims(token).getPayload();
+        } catch (SignatureException e) {
+            if (keys.previousParser() == null) {
+                throw e;
+            }
+            return keys.previousParser().parseSignedClaims(token).getPayload();
+        }
+    }
+
+    private SigningKeys getSigningKeys() {
+        SigningKeys keys = this.signingKeys;
+        if (keys == null || !keys.matches(jwtProperties)) {
+            keys = SigningKeys.from(jwtProperties);
+            this.signingKeys = keys;
+        }
+        return keys;
+    }
+
+    private record SigningKeys(
+            String secret,
+            String previousSecret,
+            SecretKey key,
+            JwtParser parser,
+            JwtParser previousParser
+    ) {
+        static SigningKeys from(JwtProperties properties) {
+            SecretKey key = toKey(properties.getSecret());
+            JwtParser previousParser = StringUtils.hasText(properties.getPreviousSecret())
+                    ? Jwts.parser().verifyWith(toKey(properties.getPreviousSecret())).build()
+                    : null;
+            return new SigningKeys(
+                    properties.getSecret(),
+                    properties.getPreviousSecret(),
+                    key,
+                    Jwts.parser().verifyWith(key).build(),
+                    previousParser
+            );
+        }
+
+        boolean matches(JwtProperties properties) {
+            return Objects.equals(secret, properties.getSecret())
+                    && Objects.equals(previousSecret, properties.getPreviousSecret());
+        }
+
+        private static SecretKey toKey(String secret) {
+            return Keys.hmacShaKeyFor(secret.getBytes(StandardCharsets.UTF_8));
+        }
     }
 }
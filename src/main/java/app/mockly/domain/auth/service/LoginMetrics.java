@@ -0,0 +1,54 @@
+package app.mockly.domain.auth.service;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+/**
+ * 로그인 단계별 소요 시간
+ * - auth.login.stage{stage=code_exchange|id_token_verify|user_upsert|session_create}
+ * - auth.login{user=new|returning}
+ */
+@Component
+@RequiredArgsConstructor
+public class LoginMetrics {
+    public static final String STAGE_CODE_EXCHANGE = "code_exchange";
+    public static final String STAGE_ID_TOKEN_VERIFY = "id_token_verify";
+    public static final String STAGE_USER_UPSERT = "user_upsert";
+    public static final String STAGE_SESSION_CREATE = "session_create";
+
+    private static final double[] PERCENTILES = {0.5, 0.95, 0.99};
+
+    private final MeterRegistry meterRegistry;
+
+    public Timer.Sample start() {
+        return Timer.start(meterRegistry);
+    }
+
+    public void recordStage(Timer.Sample sample, String stage, Tags tags) {
+        sample.stop(Timer.builder("auth.login.stage")
+                .tag("stage", stage)
+                .tags(tags)
+                .publishPercentiles(PERCENTILES)
+                .publishPercentileHistogram()
+                .register(meterRegistry));
+    }
+
+    public void recordLogin(Timer.Sample sample, boolean newUser) {
+        sample.stop(Timer.builder("auth.login")
+                .tags(userTag(newUser))
+                .publishPercentiles(PERCENTILES)
+                .publishPercentileHistogram()
+                .register(meterRegistry));
+    }
+
+    public static Tags userTag(boolean newUser) {
+        return Tags.of("user", newUser ? "new" : "returning");
+    }
+
+    public static Tags cacheTag(boolean hit) {
+        return Tags.of("cache", hit ? "hit" : "miss");
+    }
+}
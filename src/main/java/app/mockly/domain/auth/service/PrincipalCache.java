@@ -0,0 +1,20 @@
+package app.mockly.domain.auth.service;
+
+import app.mockly.domain.auth.dto.AuthenticatedUser;
+
+import java.util.UUID;
+import java.util.function.Function;
+
+/**
+ * 사용자 ID → 인증 사용자 정보 캐시
+ * 기본 구현은 {@link CaffeinePrincipalCache}, 다른 저장소를 쓰려면 이 인터페이스의 @Primary 빈을 등록한다.
+ */
+public interface PrincipalCache {
+
+    /**
+     * 캐시에 없으면 loader로 조회해 저장 (같은 사용자에 대한 동시 조회는 한 번만 수행)
+     */
+    AuthenticatedUser get(UUID userId, Function<UUID, AuthenticatedUser> loader);
+
+    void evict(UUID userId);
+}
@@ -0,0 +1,64 @@
+package app.mockly.domain.auth.service;
+
+import app.mockly.domain.auth.dto.AuthenticatedUser;
+import app.mockly.domain.auth.entity.User;
+import app.mockly.domain.auth.repository.UserRepository;
+import app.mockly.domain.product.entity.SubscriptionStatus;
+import app.mockly.domain.product.event.SubscriptionChangedEvent;
+import app.mockly.domain.product.repository.SubscriptionRepository;
+import app.mockly.global.common.ApiStatusCode;
+import app.mockly.global.exception.BusinessException;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.UUID;
+
+@Service
+@RequiredArgsConstructor
+public class PrincipalService {
+    private final PrincipalCache principalCache;
+    private final UserRepository userRepository;
+    private final SubscriptionRepository subscriptionRepository;
+
+    public AuthenticatedUser load(UUID userId) {
+        AuthenticatedUser user = principalCache.get(userId, this::loadFromDatabase);
+        evictOnRollback(userId);
+        return user;
+    }
+
+    /**
+     * 커밋 이후에 무효화해야 커밋 전 데이터가 다시 캐시되지 않는다
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onSubscriptionChanged(SubscriptionChangedEvent event) {
+        principalCache.evict(event.userId());
+    }
+
+    /**
+     * 트랜잭션 안에서 조회한 값은 커밋 전 데이터일 수 있으므로 롤백되면 캐시에서 버린다
+     * (롤백된 변경은 SubscriptionChangedEvent가 전달되지 않아 무효화되지 않음)
+     */
+    private void evictOnRollback(UUID userId) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status != STATUS_COMMITTED) {
+                    principalCache.evict(userId);
+                }
+            }
+        });
+    }
+
+    private AuthenticatedUser loadFromDatabase(UUID userId) {
+        User user = userRepository.findById(userId)
+                .orElseThrow(() -> new BusinessException(ApiStatusCode.USER_NOT_FOUND));
+        return AuthenticatedUser.of(user,
+                subscriptionRepository.findByUserIdAndStatus(userId, SubscriptionStatus.ACTIVE).orElse(null));
+    }
+}
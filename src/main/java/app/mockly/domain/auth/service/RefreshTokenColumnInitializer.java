@@ -0,0 +1,53 @@
+package app.mockly.domain.auth.service;
+
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.DependsOn;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.ResultSet;
+
+/**
+ * 이전 버전의 원문 컬럼(refresh_token.token)에서 NOT NULL 제약 제거
+ * 새 버전은 token_hash만 저장하므로, 제약이 남아 있으면 이전 버전이 만든 테이블에 INSERT할 수 없다.
+ * 컬럼과 데이터는 건드리지 않으므로 이전 버전 노드와 함께 실행해도 된다. (ddl-auto는 제약을 완화하지 않음)
+ * 기존 행의 digest는 조회할 때 채운다 (RefreshTokenRepository.findByToken).
+ */
+@Slf4j
+@Component
+@DependsOn("entityManagerFactory")
+@RequiredArgsConstructor
+public class RefreshTokenColumnInitializer {
+    private static final String LEGACY_COLUMN = "token";
+
+    private final DataSource dataSource;
+    private final JdbcTemplate jdbcTemplate;
+
+    @PostConstruct
+    public void relaxLegacyColumn() {
+        if (!isLegacyColumnNotNull()) {
+            return;
+        }
+        try {
+            jdbcTemplate.execute("ALTER TABLE refresh_token ALTER COLUMN " + LEGACY_COLUMN + " DROP NOT NULL");
+            log.info("refresh_token.{} NOT NULL 제약 제거", LEGACY_COLUMN);
+        } catch (Exception e) {
+            log.error("refresh_token.{} NOT NULL 제약 제거 실패 - Refresh Token 발급이 실패할 수 있음", LEGACY_COLUMN, e);
+        }
+    }
+
+    private boolean isLegacyColumnNotNull() {
+        try (Connection connection = dataSource.getConnection();
+             ResultSet columns = connection.getMetaData().getColumns(null, null, "refresh_token", LEGACY_COLUMN)) {
+            return columns.next() && columns.getInt("NULLABLE") == DatabaseMetaData.columnNoNulls;
+        } catch (Exception e) {
+            log.warn("refresh_token 컬럼 확인 실패, 제약 확인 생략", e);
+            return false;
+        }
+    }
+}
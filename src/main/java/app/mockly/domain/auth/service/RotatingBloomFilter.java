@@ -0,0 +1,130 @@
+package app.mockly.domain.auth.service;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.LongSupplier;
+
+/**
+ * 시간 창 단위로 교체되는 Bloom filter
+ * - 현재 창과 직전 창 두 개만 유지하므로, 창 길이를 토큰 TTL과 같게 두면 만료된 토큰은 자연스럽게 빠진다.
+ * - mightContain이 false면 "확실히 없음", true면 "있을 수도 있음"
+ */
+final class RotatingBloomFilter {
+    private final long windowMillis;
+    private final int bitCount;
+    private final int hashCount;
+    private final LongSupplier clock;
+
+    private volatile Window current;
+    private volatile Window previous;
+
+    RotatingBloomFilter(long windowMillis, long expectedInsertions, double falsePositiveRate) {
+        this(windowMillis, expectedInsertions, falsePositiveRate, System::currentTimeMillis);
+    }
+
+    RotatingBloomFilter(long windowMillis, long expectedInsertions, double falsePositiveRate, LongSupplier clock) {
+        this.windowMillis = windowMillis;
+        this.bitCount = optimalBitCount(expectedInsertions, falsePositiveRate);
+        this.hashCount = optimalHashCount(expectedInsertions, bitCount);
+        this.clock = clock;
+        this.current = new Window(windowIndex(), bitCount);
+    }
+
+    void put(String value) {
+        long hash = hash64(value);
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32);
+        Window window = currentWindow();
+        for (int i = 1; i <= hashCount; i++) {
+            window.set(bitIndex(h1, h2, i));
+        }
+    }
+
+    boolean mightContain(String value) {
+        long hash = hash64(value);
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32);
+        Window window = currentWindow();
+        Window previousWindow = this.previous;
+        return window.containsAll(h1, h2) || (previousWindow != null && previousWindow.containsAll(h1, h2));
+    }
+
+    private Window currentWindow() {
+        long index = windowIndex();
+        Window window = this.current;
+        if (window.index == index) {
+            return window;
+        }
+        synchronized (this) {
+            window = this.current;
+            if (window.index != index) {
+                this.previous = (window.index == index - 1) ? window : null;
+                window = new Window(index, bitCount);
+                this.current = window;
+            }
+            return window;
+        }
+    }
+
+    private long windowIndex() {
+        return clock.getAsLong() / windowMillis;
+    }
+
+    private int bitIndex(int h1, int h2, int i) {
+        int combined = h1 + i * h2;
+        return (combined & Integer.MAX_VALUE) % bitCount;
+    }
+
+    private static long hash64(String value) {
+        // FNV-1a 64bit + splitmix64 finalizer
+        long hash = 0xcbf29ce484222325L;
+        for (byte b : value.getBytes(StandardCharsets.UTF_8)) {
+            hash ^= b;
+            hash *= 0x100000001b3L;
+        }
+        hash = (hash ^ (hash >>> 30)) * 0xbf58476d1ce4e5b9L;
+        hash = (hash ^ (hash >>> 27)) * 0x94d049bb133111ebL;
+        return hash ^ (hash >>> 31);
+    }
+
+    private static int optimalBitCount(long expectedInsertions, double falsePositiveRate) {
+        double bits = -expectedInsertions * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2));
+        return (int) Math.max(64, Math.min(Integer.MAX_VALUE - 63, Math.ceil(bits)));
+    }
+
+    private static int optimalHashCount(long expectedInsertions, int bitCount) {
+        return Math.max(1, (int) Math.round((double) bitCount / expectedInsertions * Math.log(2)));
+    }
+
+    private final class Window {
+        private final long index;
+        private final AtomicLongArray bits;
+
+        private Window(long index, int bitCount) {
+            this.index = index;
+            this.bits = new AtomicLongArray((bitCount + 63) / 64);
+        }
+
+        private void set(int bitIndex) {
+            int slot = bitIndex >>> 6;
+            long mask = 1L << bitIndex;
+            long value;
+            do {
+                value = bits.get(slot);
+                if ((value & mask) != 0) {
+                    return;
+                }
+            } while (!bits.compareAndSet(slot, value, value | mask));
+        }
+
+        private boolean containsAll(int h1, int h2) {
+            for (int i = 1; i <= hashCount; i++) {
+                int bitIndex = bitIndex(h1, h2, i);
+                if ((bits.get(bitIndex >>> 6) & (1L << bitIndex)) == 0) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+}
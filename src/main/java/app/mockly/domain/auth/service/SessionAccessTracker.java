@@ -0,0 +1,135 @@
+package app.mockly.domain.auth.service;
+
+import app.mockly.domain.auth.dto.LocationInfo;
+import app.mockly.global.config.SessionAccessProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 세션 접근 정보(lastAccessedAt, 위치) 비동기 반영
+ * - 요청 트랜잭션에서는 session 행을 갱신하지 않고 메모리에 세션별로 병합 (last-write-wins)
+ * - 주기적으로 JDBC batch update로 반영, DB에 더 최신 값이 있으면 덮어쓰지 않음
+ * - 대기 세션 수가 maxPending을 넘으면 새 세션의 갱신은 버리고 dropped 카운터로 기록
+ */
+@Slf4j
+@Component
+public class SessionAccessTracker {
+    private static final String UPDATE_SQL = """
+            UPDATE session
+            SET latitude = ?, longitude = ?, last_accessed_at = ?
+            WHERE id = ? AND (last_accessed_at IS NULL OR last_accessed_at < ?)
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final SessionAccessProperties properties;
+    private final Map<Long, SessionAccess> pending = new ConcurrentHashMap<>();
+
+    private final Counter recordedCounter;
+    private final Counter mergedCounter;
+    private final Counter droppedCounter;
+    private final Timer flushTimer;
+
+    private record SessionAccess(Double latitude, Double longitude, Instant accessedAt) {
+        SessionAccess latest(SessionAccess other) {
+            return other.accessedAt.isBefore(accessedAt) ? this : other;
+        }
+    }
+
+    public SessionAccessTracker(JdbcTemplate jdbcTemplate,
+                                SessionAccessProperties properties,
+                                MeterRegistry meterRegistry) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.properties = properties;
+
+        Gauge.builder("session.access.pending", pending, Map::size)
+                .description("DB 반영 대기 중인 세션 수")
+                .register(meterRegistry);
+        this.recordedCounter = Counter.builder("session.access.recorded")
+                .register(meterRegistry);
+        this.mergedCounter = Counter.builder("session.access.merged")
+                .description("대기 중인 갱신에 병합된 수")
+                .register(meterRegistry);
+        this.droppedCounter = Counter.builder("session.access.dropped")
+                .description("대기열이 가득 차 버려진 갱신 수")
+                .register(meterRegistry);
+        this.flushTimer = Timer.builder("session.access.flush")
+                .register(meterRegistry);
+    }
+
+    public void record(Long sessionId, LocationInfo locationInfo) {
+        SessionAccess access = new SessionAccess(
+                locationInfo != null ? locationInfo.latitude() : null,
+                locationInfo != null ? locationInfo.longitude() : null,
+                Instant.now()
+        );
+        recordedCounter.increment();
+
+        if (pending.size() >= properties.getMaxPending() && !pending.containsKey(sessionId)) {
+            droppedCounter.increment();
+            return;
+        }
+        pending.merge(sessionId, access, (current, updated) -> {
+            mergedCounter.increment();
+            return current.latest(updated);
+        });
+    }
+
+    @Scheduled(fixedDelayString = "#{@sessionAccessProperties.flushInterval.toMillis()}")
+    public void flush() {
+        if (pending.isEmpty()) {
+            return;
+        }
+        flushTimer.record(this::flushPending);
+    }
+
+    @PreDestroy
+    void flushOnShutdown() {
+        flush();
+    }
+
+    private void flushPending() {
+        List<Object[]> batch = new ArrayList<>(properties.getBatchSize());
+        int flushed = 0;
+        for (Long sessionId : pending.keySet()) {
+            SessionAccess access = pending.remove(sessionId);
+            if (access == null) {
+                continue;
+            }
+            Timestamp accessedAt = Timestamp.from(access.accessedAt());
+            batch.add(new Object[]{access.latitude(), access.longitude(), accessedAt, sessionId, accessedAt});
+            if (batch.size() >= properties.getBatchSize()) {
+                flushed += executeBatch(batch);
+                batch.clear();
+            }
+        }
+        if (!batch.isEmpty()) {
+            flushed += executeBatch(batch);
+        }
+        log.debug("세션 접근 정보 반영 - {}건", flushed);
+    }
+
+    private int executeBatch(List<Object[]> batch) {
+        try {
+            jdbcTemplate.batchUpdate(UPDATE_SQL, batch);
+            return batch.size();
+        } catch (Exception e) {
+            // 접근 정보는 다음 요청에서 다시 기록되므로 재시도하지 않는다
+            log.warn("세션 접근 정보 반영 실패 - {}건", batch.size(), e);
+            return 0;
+        }
+    }
+}
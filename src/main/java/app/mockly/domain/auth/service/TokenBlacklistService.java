@@ -1,24 +1,362 @@
 package app.mockly.domain.auth.service;
 
-import lombok.RequiredArgsConstructor;
+import app.mockly.domain.auth.dto.AccessTokenClaims;
+import app.mockly.global.config.JwtProperties;
+import app.mockly.global.config.TokenBlacklistProperties;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.Cursor;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.NavigableSet;
+import java.util.TreeSet;
+import java.util.UUID;
 import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
 
+/**
+ * 로컬 캐시(1차) + Redis(2차) 2단 블랙리스트
+ * - 토큰 전체가 아닌 jti(구버전 토큰은 SHA-256 digest)로 저장
+ *   - blacklist:jti:{jti} = 토큰 만료 시각(epoch millis)
+ *   - blacklist:user:{userId} = 이 시각(epoch millis) 이전에 발급된 토큰은 모두 폐기 (이 시각 이후 발급된 토큰은 유효)
+ *   - blacklist:token:{token} = 배포 전 형식. jti 없는 토큰에 한해 추가로 확인 (해당 토큰은 Access Token TTL 안에 모두 만료)
+ * - 폐기 정보는 만료 시각까지 로컬에 보관하고, pub/sub으로 다른 노드에도 즉시 전파
+ *   폐기할 때마다 blacklist-sequence를 증가시키고 메시지에 번호를 실어 보낸다.
+ * - Bloom filter가 "확실히 없음"이라고 답하면 I/O 없이 바로 통과 (Redis에서 재구성되기 전까지는 사용하지 않음)
+ *   pub/sub 메시지를 놓치면(재연결, failover) Bloom filter가 폐기된 토큰을 통과시키므로,
+ *   negativeCacheTtl / 2마다 받은 번호와 Redis의 번호를 비교해 빠진 메시지가 있으면 Bloom filter를 끄고 재구성한다.
+ *   → 메시지를 놓쳐도 폐기가 반영되기까지 negativeCacheTtl을 넘지 않는다.
+ * - 폐기되지 않은 항목은 negativeCacheTtl 동안만 로컬에 보관
+ */
+@Slf4j
 @Service
-@RequiredArgsConstructor
-public class TokenBlacklistService {
-    private static final String BLACKLIST_PREFIX = "blacklist:token:";
+public class TokenBlacklistService implements MessageListener {
+    private static final String BLACKLIST_PREFIX = "blacklist:";
+    private static final String TOKEN_ENTRY_PREFIX = "jti:";
+    private static final String USER_ENTRY_PREFIX = "user:";
+    private static final String LEGACY_ENTRY_PREFIX = "token:";
+    private static final String SEQUENCE_KEY = "blacklist-sequence"; // blacklist:* 스캔에 포함되지 않도록 접두사 밖에 둔다
+    private static final String MESSAGE_SEPARATOR = "|";
 
     private final RedisTemplate<String, String> redisTemplate;
+    private final RedisMessageListenerContainer listenerContainer;
+    private final TokenBlacklistProperties properties;
+    private final long accessTokenExpiration;
 
-    public void save(String token, long ttl) {
+    private final Cache<String, Revocation> revocations; // entry -> 폐기 정보
+    private final Cache<String, Boolean> notRevoked;
+    private final RotatingBloomFilter bloomFilter;
+    private volatile boolean bloomFilterReady = false;
+
+    // 받은 폐기 메시지 번호 (receivedSequence까지는 빠짐없이 받음, 그 이후는 순서가 어긋나 먼저 도착한 번호)
+    private final Object sequenceLock = new Object();
+    private long receivedSequence;
+    private final NavigableSet<Long> pendingSequences = new TreeSet<>();
+    private long lastCheckedSequence; // 직전 확인 때 Redis의 번호, 다음 확인까지 모두 도착했어야 한다
+
+    private final Counter cacheHitCounter;
+    private final Counter cacheMissCounter;
+    private final Counter bloomNegativeCounter;
+    private final Counter bloomPositiveCounter;
+    private final Counter resyncCounter;
+
+    /**
+     * @param value jti 항목은 토큰 만료 시각(epoch millis), user 항목은 워터마크(epoch millis)
+     * @param expiresAt 로컬 캐시에서 제거될 시각(epoch millis)
+     */
+    private record Revocation(long value, long expiresAt) {
+    }
+
+    public TokenBlacklistService(RedisTemplate<String, String> redisTemplate,
+                                 RedisMessageListenerContainer listenerContainer,
+                                 TokenBlacklistProperties properties,
+                                 JwtProperties jwtProperties,
+                                 MeterRegistry meterRegistry) {
+        this.redisTemplate = redisTemplate;
+        this.listenerContainer = listenerContainer;
+        this.properties = properties;
+        this.accessTokenExpiration = jwtProperties.getAccessTokenExpiration();
+        // 창 길이 = Access Token TTL → 현재/직전 창만 유지해도 살아있는 항목은 모두 포함된다
+        this.bloomFilter = new RotatingBloomFilter(
+                accessTokenExpiration,
+                properties.getBloomExpectedInsertions(),
+                properties.getBloomFalsePositiveRate()
+        );
+
+        this.revocations = Caffeine.newBuilder()
+                .maximumSize(properties.getLocalCacheMaxSize())
+                .expireAfter(Expiry.creating((String entry, Revocation revocation) ->
+                        Duration.ofMillis(Math.max(0, revocation.expiresAt() - System.currentTimeMillis()))))
+                .build();
+        this.notRevoked = Caffeine.newBuilder()
+                .maximumSize(properties.getLocalCacheMaxSize())
+                .expireAfterWrite(properties.getNegativeCacheTtl())
+                .build();
+
+        this.cacheHitCounter = Counter.builder("token.blacklist.cache")
+                .tag("result", "hit")
+                .description("로컬 캐시에서 응답한 블랙리스트 조회 수")
+                .register(meterRegistry);
+        this.cacheMissCounter = Counter.builder("token.blacklist.cache")
+                .tag("result", "miss")
+                .description("Redis까지 조회한 블랙리스트 조회 수")
+                .register(meterRegistry);
+        this.bloomNegativeCounter = Counter.builder("token.blacklist.bloom")
+                .tag("result", "negative")
+                .register(meterRegistry);
+        this.bloomPositiveCounter = Counter.builder("token.blacklist.bloom")
+                .tag("result", "positive")
+                .register(meterRegistry);
+        this.resyncCounter = Counter.builder("token.blacklist.resync")
+                .description("놓친 폐기 메시지가 있어 Bloom filter를 재구성한 횟수")
+                .register(meterRegistry);
+    }
+
+    @PostConstruct
+    void subscribe() {
+        listenerContainer.addMessageListener(this, new ChannelTopic(properties.getChannel()));
+    }
+
+    /**
+     * 기동 시(또는 놓친 메시지를 발견했을 때) Redis에 남아있는 블랙리스트로 Bloom filter 재구성
+     * 재구성하는 동안과 실패한 경우에는 Bloom filter를 쓰지 않고 기존 경로(로컬 캐시 → Redis)로만 조회한다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void rebuildBloomFilter() {
+        bloomFilterReady = false;
+        ScanOptions options = ScanOptions.scanOptions()
+                .match(BLACKLIST_PREFIX + "*")
+                .count(1000)
+                .build();
+        int count = 0;
+        try {
+            // 번호를 먼저 읽는다: 이 번호까지의 폐기는 키가 이미 저장되어 있으므로 스캔에 포함된다
+            resetSequence(readSequence());
+            try (Cursor<String> cursor = redisTemplate.scan(options)) {
+                while (cursor.hasNext()) {
+                    bloomFilter.put(cursor.next().substring(BLACKLIST_PREFIX.length()));
+                    count++;
+                }
+            }
+            bloomFilterReady = true;
+            log.info("블랙리스트 Bloom filter 재구성 완료 - 항목 수: {}", count);
+        } catch (Exception e) {
+            log.warn("블랙리스트 Bloom filter 재구성 실패, Redis 조회로 대체", e);
+        }
+    }
+
+    /**
+     * 놓친 폐기 메시지 확인
+     * 직전 확인 때의 번호까지 모두 받지 못했거나 Redis의 번호가 되돌아갔으면(FLUSH, 재시작) Bloom filter 재구성
+     * 재구성에 실패한 상태면 다시 시도한다.
+     */
+    @Scheduled(fixedDelayString = "#{@tokenBlacklistProperties.negativeCacheTtl.toMillis() / 2}")
+    public void verifySequence() {
+        if (!bloomFilterReady) {
+            rebuildBloomFilter();
+            return;
+        }
+        long current;
+        try {
+            current = readSequence();
+        } catch (Exception e) {
+            // 확인할 수 없으면 Bloom filter를 믿지 않는다
+            bloomFilterReady = false;
+            log.warn("블랙리스트 번호 확인 실패, Bloom filter 사용 중지", e);
+            return;
+        }
+        boolean missed;
+        long received;
+        synchronized (sequenceLock) {
+            received = receivedSequence;
+            missed = lastCheckedSequence > received || current < received;
+            lastCheckedSequence = current;
+        }
+        if (missed) {
+            resyncCounter.increment();
+            log.warn("놓친 블랙리스트 메시지 발견, Bloom filter 재구성 - 받은 번호: {}, Redis 번호: {}", received, current);
+            rebuildBloomFilter();
+        }
+    }
+
+    /**
+     * 단일 토큰 폐기 (로그아웃)
+     */
+    public void blacklist(AccessTokenClaims claims) {
+        long expiresAt = claims.expiresAt().toEpochMilli();
+        long ttl = expiresAt - System.currentTimeMillis();
+        if (ttl <= 0) {
+            return;
+        }
+        revoke(TOKEN_ENTRY_PREFIX + claims.tokenId(), expiresAt, expiresAt, ttl);
+    }
+
+    /**
+     * 사용자가 before 시각 이전에 발급받은 Access Token 전체 폐기 (모든 기기에서 로그아웃)
+     * 밀리초 단위로 비교하므로, 같은 초라도 before 이후(같은 밀리초 포함)에 발급된 토큰(ex. 직후 재로그인)은 유효하다.
+     * 워터마크는 가장 늦게 발급된 토큰이 만료될 때까지만 유지하면 된다.
+     */
+    public void revokeAllIssuedBefore(UUID userId, Instant before) {
+        long expiresAt = before.toEpochMilli() + accessTokenExpiration;
+        long ttl = expiresAt - System.currentTimeMillis();
+        if (ttl <= 0) {
+            return;
+        }
+        revoke(USER_ENTRY_PREFIX + userId, before.toEpochMilli(), expiresAt, ttl);
+    }
+
+    public boolean isBlacklisted(AccessTokenClaims claims) {
+        if (findRevocation(TOKEN_ENTRY_PREFIX + claims.tokenId()) != null) {
+            return true;
+        }
+        Revocation watermark = findRevocation(USER_ENTRY_PREFIX + claims.userId());
+        if (watermark != null && claims.issuedAt().toEpochMilli() < watermark.value()) {
+            return true;
+        }
+        return claims.legacyToken() != null && isLegacyBlacklisted(claims);
+    }
+
+    /**
+     * 배포 전 노드가 토큰 원문을 키로 저장한 블랙리스트 확인 (롤링 배포 중 이전 노드에서 로그아웃한 경우 포함)
+     * 찾으면 jti 항목으로 옮겨 이후에는 로컬 캐시에서 응답한다.
+     */
+    private boolean isLegacyBlacklisted(AccessTokenClaims claims) {
+        String legacyEntry = LEGACY_ENTRY_PREFIX + claims.tokenId();
+        if (notRevoked.getIfPresent(legacyEntry) != null) {
+            return false;
+        }
+        if (!Boolean.TRUE.equals(redisTemplate.hasKey(BLACKLIST_PREFIX + LEGACY_ENTRY_PREFIX + claims.legacyToken()))) {
+            notRevoked.put(legacyEntry, Boolean.TRUE);
+            return false;
+        }
+        blacklist(claims);
+        return true;
+    }
+
+    private void revoke(String entry, long value, long expiresAt, long ttl) {
         redisTemplate.opsForValue()
-                .set(BLACKLIST_PREFIX + token, "blacklisted", ttl, TimeUnit.MILLISECONDS);
+                .set(BLACKLIST_PREFIX + entry, Long.toString(value), ttl, TimeUnit.MILLISECONDS);
+        // 키를 저장한 뒤 번호를 올린다 (번호로 놓친 메시지를 발견한 노드가 재구성할 때 이 키가 보이도록)
+        Long sequence = redisTemplate.opsForValue().increment(SEQUENCE_KEY);
+
+        Revocation revocation = new Revocation(value, expiresAt);
+        markRevoked(entry, revocation);
+        String message = String.join(MESSAGE_SEPARATOR, entry, Long.toString(value), Long.toString(expiresAt));
+        redisTemplate.convertAndSend(properties.getChannel(),
+                sequence != null ? message + MESSAGE_SEPARATOR + sequence : message);
+    }
+
+    private Revocation findRevocation(String entry) {
+        Revocation cached = revocations.getIfPresent(entry);
+        if (cached != null) {
+            cacheHitCounter.increment();
+            return cached;
+        }
+        if (bloomFilterReady) {
+            if (!bloomFilter.mightContain(entry)) {
+                bloomNegativeCounter.increment();
+                cacheHitCounter.increment();
+                return null;
+            }
+            bloomPositiveCounter.increment();
+        }
+        if (notRevoked.getIfPresent(entry) != null) {
+            cacheHitCounter.increment();
+            return null;
+        }
+
+        cacheMissCounter.increment();
+        String key = BLACKLIST_PREFIX + entry;
+        String value = redisTemplate.opsForValue().get(key);
+        if (value != null) {
+            Long ttl = redisTemplate.getExpire(key, TimeUnit.MILLISECONDS);
+            Revocation revocation = new Revocation(Long.parseLong(value),
+                    System.currentTimeMillis() + (ttl != null && ttl > 0 ? ttl : 0));
+            if (ttl != null && ttl > 0) {
+                markRevoked(entry, revocation);
+            }
+            return revocation;
+        }
+
+        notRevoked.put(entry, Boolean.TRUE);
+        return null;
+    }
+
+    /**
+     * 다른 노드에서 발생한 폐기 수신 - "entry|value|expiresAt|sequence" (번호가 없는 이전 형식도 처리)
+     */
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        String[] fields = body.split(Pattern.quote(MESSAGE_SEPARATOR), -1);
+        if ((fields.length != 3 && fields.length != 4) || fields[0].isEmpty()) {
+            log.warn("알 수 없는 블랙리스트 메시지 형식: {}", body);
+            return;
+        }
+
+        try {
+            long value = Long.parseLong(fields[1]);
+            long expiresAt = Long.parseLong(fields[2]);
+            Long sequence = fields.length == 4 ? Long.parseLong(fields[3]) : null;
+            markRevoked(fields[0], new Revocation(value, expiresAt));
+            if (sequence != null) {
+                receiveSequence(sequence);
+            }
+        } catch (NumberFormatException e) {
+            log.warn("블랙리스트 메시지 파싱 실패: {}", body, e);
+        }
+    }
+
+    private void receiveSequence(long sequence) {
+        synchronized (sequenceLock) {
+            if (sequence <= receivedSequence) {
+                return;
+            }
+            pendingSequences.add(sequence);
+            while (pendingSequences.remove(receivedSequence + 1)) {
+                receivedSequence++;
+            }
+        }
+    }
+
+    private void resetSequence(long sequence) {
+        synchronized (sequenceLock) {
+            receivedSequence = sequence;
+            lastCheckedSequence = sequence;
+            pendingSequences.headSet(sequence, true).clear();
+            while (pendingSequences.remove(receivedSequence + 1)) {
+                receivedSequence++;
+            }
+        }
+    }
+
+    private long readSequence() {
+        String sequence = redisTemplate.opsForValue().get(SEQUENCE_KEY);
+        return sequence != null ? Long.parseLong(sequence) : 0L;
     }
 
-    public boolean isBlacklisted(String token) {
-        return redisTemplate.hasKey(BLACKLIST_PREFIX + token);
+    private void markRevoked(String entry, Revocation revocation) {
+        bloomFilter.put(entry);
+        // 워터마크는 더 늦은 시각으로만 갱신
+        revocations.asMap().merge(entry, revocation,
+                (current, updated) -> updated.value() >= current.value() ? updated : current);
+        notRevoked.invalidate(entry);
     }
 }
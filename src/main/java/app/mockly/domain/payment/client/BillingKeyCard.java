@@ -0,0 +1,10 @@
+package app.mockly.domain.payment.client;
+
+/**
+ * 빌링키에 연결된 카드 정보
+ */
+public record BillingKeyCard(
+        String cardNumber, // 마스킹된 카드 번호
+        String cardBrand
+) {
+}
@@ -0,0 +1,147 @@
+package app.mockly.domain.payment.client;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Duration;
+import java.util.function.LongSupplier;
+
+/**
+ * 최근 N번 호출(sliding window)의 실패율 기준 서킷 브레이커
+ * CLOSED → 실패율 임계치 초과 → OPEN → openDuration 경과 → HALF_OPEN
+ * HALF_OPEN에서는 정해진 수의 시험 호출만 보내고, 모두 성공하면 CLOSED / 하나라도 실패하면 다시 OPEN
+ */
+@Slf4j
+public class CircuitBreaker {
+    public static final long REJECTED = -1;
+
+    public enum State {
+        CLOSED(0), OPEN(1), HALF_OPEN(2);
+
+        private final int gaugeValue;
+
+        State(int gaugeValue) {
+            this.gaugeValue = gaugeValue;
+        }
+
+        public int gaugeValue() {
+            return gaugeValue;
+        }
+    }
+
+    private final String name;
+    private final int minimumCalls;
+    private final int failureRateThreshold;
+    private final long openDurationNanos;
+    private final int halfOpenCalls;
+    private final LongSupplier nanoClock;
+
+    private final boolean[] window; // true = 실패
+    private int recorded;
+    private int cursor;
+    private int failures;
+
+    private State state = State.CLOSED;
+    private long generation; // 상태가 바뀔 때마다 증가, 이전 상태에서 시작한 호출의 결과는 무시
+    private long openedAt;
+    private int halfOpenPermits;
+    private int halfOpenSucceeded;
+
+    public CircuitBreaker(String name, int slidingWindowSize, int minimumCalls, int failureRateThreshold,
+                          Duration openDuration, int halfOpenCalls, LongSupplier nanoClock) {
+        this.name = name;
+        this.window = new boolean[slidingWindowSize];
+        this.minimumCalls = Math.min(minimumCalls, slidingWindowSize);
+        this.failureRateThreshold = failureRateThreshold;
+        this.openDurationNanos = openDuration.toNanos();
+        this.halfOpenCalls = halfOpenCalls;
+        this.nanoClock = nanoClock;
+    }
+
+    /**
+     * 호출 허가 - 허가되면 결과 보고에 쓸 세대 값을, 거절되면 REJECTED를 돌려준다.
+     */
+    public synchronized long tryAcquire() {
+        if (state == State.OPEN) {
+            if (nanoClock.getAsLong() - openedAt < openDurationNanos) {
+                return REJECTED;
+            }
+            transitionTo(State.HALF_OPEN);
+        }
+        if (state == State.HALF_OPEN) {
+            if (halfOpenPermits >= halfOpenCalls) {
+                return REJECTED;
+            }
+            halfOpenPermits++;
+        }
+        return generation;
+    }
+
+    /**
+     * 허가를 받았지만 호출하지 못한 경우 (bulkhead 거절 등) 시험 호출 슬롯 반환
+     */
+    public synchronized void release(long permit) {
+        if (permit == generation && state == State.HALF_OPEN && halfOpenPermits > 0) {
+            halfOpenPermits--;
+        }
+    }
+
+    public synchronized void onResult(long permit, boolean failure) {
+        if (permit != generation) {
+            return;
+        }
+        switch (state) {
+            case CLOSED -> {
+                record(failure);
+                if (recorded >= minimumCalls && failures * 100 >= failureRateThreshold * recorded) {
+                    log.warn("PortOne 서킷 OPEN - operation: {}, 실패: {}/{}", name, failures, recorded);
+                    transitionTo(State.OPEN);
+                }
+            }
+            case HALF_OPEN -> {
+                if (failure) {
+                    log.warn("PortOne 서킷 시험 호출 실패, 다시 OPEN - operation: {}", name);
+                    transitionTo(State.OPEN);
+                } else if (++halfOpenSucceeded >= halfOpenCalls) {
+                    log.info("PortOne 서킷 CLOSED - operation: {}", name);
+                    transitionTo(State.CLOSED);
+                }
+            }
+            case OPEN -> {
+            }
+        }
+    }
+
+    public synchronized State state() {
+        return state;
+    }
+
+    private void record(boolean failure) {
+        if (recorded == window.length) {
+            if (window[cursor]) {
+                failures--;
+            }
+        } else {
+            recorded++;
+        }
+        window[cursor] = failure;
+        if (failure) {
+            failures++;
+        }
+        cursor = (cursor + 1) % window.length;
+    }
+
+    private void transitionTo(State next) {
+        state = next;
+        generation++;
+        halfOpenPermits = 0;
+        halfOpenSucceeded = 0;
+        if (next == State.OPEN) {
+            openedAt = nanoClock.getAsLong();
+        }
+        if (next == State.CLOSED) {
+            recorded = 0;
+            cursor = 0;
+            failures = 0;
+        }
+    }
+}
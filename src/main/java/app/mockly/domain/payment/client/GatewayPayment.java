@@ -0,0 +1,38 @@
+package app.mockly.domain.payment.client;
+
+import app.mockly.domain.payment.entity.PaymentMethodType;
+
+/**
+ * PG에서 조회한 결제 상태
+ */
+public record GatewayPayment(
+        String paymentId,
+        Status status,
+        PaymentMethodType methodType,
+        String billingKey, // 결제에 사용된 빌링키
+        String failReason
+) {
+    public enum Status {
+        PAID, FAILED, OTHER
+    }
+
+    public static GatewayPayment paid(String paymentId, PaymentMethodType methodType, String billingKey) {
+        return new GatewayPayment(paymentId, Status.PAID, methodType, billingKey, null);
+    }
+
+    public static GatewayPayment failed(String paymentId, String failReason) {
+        return new GatewayPayment(paymentId, Status.FAILED, PaymentMethodType.UNKNOWN, null, failReason);
+    }
+
+    public static GatewayPayment other(String paymentId) {
+        return new GatewayPayment(paymentId, Status.OTHER, PaymentMethodType.UNKNOWN, null, null);
+    }
+
+    public boolean isPaid() {
+        return status == Status.PAID;
+    }
+
+    public boolean isFailed() {
+        return status == Status.FAILED;
+    }
+}
@@ -0,0 +1,37 @@
+package app.mockly.domain.payment.client;
+
+import app.mockly.domain.payment.client.simulator.SimulatedPaymentGateway;
+import io.portone.sdk.server.common.Currency;
+import io.portone.sdk.server.common.PaymentAmountInput;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * PG 호출 구현체
+ * - {@link PortOnePaymentGateway}: PortOne API (기본값)
+ * - {@link SimulatedPaymentGateway}: 부하 테스트용 프로세스 내 시뮬레이터 (payment-gateway.type=simulator)
+ * 타임아웃, 서킷 브레이커, 캐시, 예외 변환은 PortOneService가 맡고 구현체는 호출만 한다.
+ */
+public interface PaymentGateway {
+
+    CompletableFuture<BillingKeyCard> getBillingKey(String billingKey);
+
+    CompletableFuture<Void> payWithBillingKey(String paymentId, String billingKey, String orderName,
+                                              Currency currency, PaymentAmountInput amount);
+
+    /**
+     * @return 생성된 scheduleId
+     */
+    CompletableFuture<String> createPaymentSchedule(String paymentId, String billingKey, String orderName,
+                                                    Currency currency, PaymentAmountInput amount, Instant timeToPay);
+
+    /**
+     * @return 실제로 취소된 scheduleId
+     */
+    CompletableFuture<Set<String>> revokePaymentSchedules(List<String> scheduleIds);
+
+    CompletableFuture<GatewayPayment> getPayment(String paymentId);
+}
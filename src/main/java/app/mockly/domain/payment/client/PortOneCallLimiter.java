@@ -0,0 +1,56 @@
+package app.mockly.domain.payment.client;
+
+import app.mockly.global.common.ApiStatusCode;
+import app.mockly.global.config.SchedulingProperties;
+import app.mockly.global.exception.BusinessException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * 배치 작업(Outbox, 만료 처리)에서 동시에 나가는 PortOne 호출 수 제한
+ * 작업은 가상 스레드로 항목마다 나눠 실행하고, 실제 동시 호출 수는 여기서 정한다.
+ */
+@Slf4j
+@Component
+public class PortOneCallLimiter {
+    private final Semaphore permits;
+    private final long acquireTimeoutMillis;
+
+    public PortOneCallLimiter(SchedulingProperties properties) {
+        this.permits = new Semaphore(properties.getPortOneConcurrency(), true);
+        this.acquireTimeoutMillis = properties.getPortOneAcquireTimeout().toMillis();
+    }
+
+    public void run(Runnable call) {
+        call(() -> {
+            call.run();
+            return null;
+        });
+    }
+
+    public <T> T call(Supplier<T> call) {
+        acquire();
+        try {
+            return call.get();
+        } finally {
+            permits.release();
+        }
+    }
+
+    private void acquire() {
+        try {
+            if (!permits.tryAcquire(acquireTimeoutMillis, TimeUnit.MILLISECONDS)) {
+                log.warn("PortOne 호출 슬롯 대기 시간 초과 - 대기 시간: {}ms", acquireTimeoutMillis);
+                // PortOne 호출이 밀려 있는 상태이므로 장애와 같게 취급 (호출하는 쪽은 나눠서 재시도하지 않고 미룬다)
+                throw new BusinessException(ApiStatusCode.PAYMENT_GATEWAY_UNAVAILABLE, "PortOne 호출 대기 시간이 초과되었습니다.");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new BusinessException(ApiStatusCode.INTERNAL_SERVER_ERROR, "PortOne 호출 대기 중 중단되었습니다.");
+        }
+    }
+}
@@ -0,0 +1,21 @@
+package app.mockly.domain.payment.client;
+
+import lombok.Getter;
+
+/**
+ * 서킷 브레이커를 따로 두는 PortOne API 단위
+ */
+@Getter
+public enum PortOneOperation {
+    GET_BILLING_KEY("get_billing_key"),
+    PAY_WITH_BILLING_KEY("pay_with_billing_key"),
+    CREATE_PAYMENT_SCHEDULE("create_payment_schedule"),
+    REVOKE_PAYMENT_SCHEDULE("revoke_payment_schedule"),
+    GET_PAYMENT("get_payment");
+
+    private final String tag;
+
+    PortOneOperation(String tag) {
+        this.tag = tag;
+    }
+}
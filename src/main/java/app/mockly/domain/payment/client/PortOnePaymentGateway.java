@@ -0,0 +1,157 @@
+package app.mockly.domain.payment.client;
+
+import app.mockly.domain.payment.entity.PaymentMethodType;
+import app.mockly.global.common.ApiStatusCode;
+import app.mockly.global.config.PortOneProperties;
+import app.mockly.global.exception.BusinessException;
+import io.portone.sdk.server.PortOneClient;
+import io.portone.sdk.server.common.BillingKeyPaymentInput;
+import io.portone.sdk.server.common.Card;
+import io.portone.sdk.server.common.Currency;
+import io.portone.sdk.server.common.PaymentAmountInput;
+import io.portone.sdk.server.payment.FailedPayment;
+import io.portone.sdk.server.payment.PaidPayment;
+import io.portone.sdk.server.payment.Payment;
+import io.portone.sdk.server.payment.PaymentFailure;
+import io.portone.sdk.server.payment.billingkey.BillingKeyInfo;
+import io.portone.sdk.server.payment.billingkey.BillingKeyPaymentMethod;
+import io.portone.sdk.server.payment.billingkey.BillingKeyPaymentMethodCard;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * PortOne API 호출 (PortOneClient가 설정된 api-base로 요청)
+ */
+@Component
+@ConditionalOnProperty(prefix = "payment-gateway", name = "type", havingValue = "portone", matchIfMissing = true)
+@RequiredArgsConstructor
+public class PortOnePaymentGateway implements PaymentGateway {
+    private final PortOneClient portOneClient;
+    private final PortOneProperties portOneProperties;
+
+    @Override
+    public CompletableFuture<BillingKeyCard> getBillingKey(String billingKey) {
+        return portOneClient.getPayment().getBillingKey()
+                .getBillingKeyInfo(billingKey)
+                .thenApply(PortOnePaymentGateway::toBillingKeyCard);
+    }
+
+    @Override
+    public CompletableFuture<Void> payWithBillingKey(String paymentId, String billingKey, String orderName,
+                                                     Currency currency, PaymentAmountInput amount) {
+        return portOneClient.getPayment().payWithBillingKey(
+                        paymentId,
+                        billingKey,
+                        portOneProperties.channelKey(),
+                        orderName,
+                        null,
+                        null,
+                        amount,
+                        currency,
+                        null,
+                        null,
+                        null,
+                        null,
+                        null,
+                        null,
+                        null,
+                        null,
+                        null,
+                        null,
+                        null,
+                        null,
+                        null)
+                .thenAccept(response -> {
+                });
+    }
+
+    @Override
+    public CompletableFuture<String> createPaymentSchedule(String paymentId, String billingKey, String orderName,
+                                                           Currency currency, PaymentAmountInput amount, Instant timeToPay) {
+        BillingKeyPaymentInput billingKeyPaymentInput = createBillingKeyPaymentInput(billingKey, orderName, amount, currency);
+        return portOneClient.getPayment().getPaymentSchedule()
+                .createPaymentSchedule(paymentId, billingKeyPaymentInput, timeToPay)
+                .thenApply(response -> response.getSchedule().getId());
+    }
+
+    @Override
+    public CompletableFuture<Set<String>> revokePaymentSchedules(List<String> scheduleIds) {
+        return portOneClient.getPayment().getPaymentSchedule()
+                .revokePaymentSchedules(null, scheduleIds)
+                .thenApply(response -> Set.copyOf(response.getRevokedScheduleIds()));
+    }
+
+    @Override
+    public CompletableFuture<GatewayPayment> getPayment(String paymentId) {
+        return portOneClient.getPayment().getPayment(paymentId)
+                .thenApply(payment -> toGatewayPayment(paymentId, payment));
+    }
+
+    private static BillingKeyCard toBillingKeyCard(BillingKeyInfo billingKeyInfo) {
+        if (!(billingKeyInfo instanceof BillingKeyInfo.Recognized recognized)) {
+            throw new BusinessException(ApiStatusCode.BAD_REQUEST, "유효하지 않은 빌링키입니다.");
+        }
+
+        List<BillingKeyPaymentMethod> methods = recognized.getMethods();
+        if (methods == null || methods.isEmpty()) {
+            throw new BusinessException(ApiStatusCode.BAD_REQUEST, "결제 수단 정보를 찾을 수 없습니다.");
+        }
+
+        BillingKeyPaymentMethod method = methods.getFirst();
+        if (!(method instanceof BillingKeyPaymentMethodCard cardMethod)) {
+            throw new BusinessException(ApiStatusCode.BAD_REQUEST, "현재 카드 결제 수단만 지원합니다.");
+        }
+
+        Card card = cardMethod.getCard();
+        return new BillingKeyCard(card.getNumber(), card.getBrand().toString());
+    }
+
+    private static GatewayPayment toGatewayPayment(String paymentId, Payment payment) {
+        if (payment instanceof PaidPayment paidPayment) {
+            return GatewayPayment.paid(paymentId, PaymentMethodType.from(paidPayment.getMethod()), paidPayment.getBillingKey());
+        }
+        if (payment instanceof FailedPayment failedPayment) {
+            String failReason = "실패 메세지";
+            PaymentFailure failure = failedPayment.getFailure();
+            if (failure.getReason() != null) {
+                failReason = failure.getReason();
+            } else if (failure.getPgMessage() != null) {
+                failReason = failure.getPgMessage();
+            }
+            return GatewayPayment.failed(paymentId, failReason);
+        }
+        return GatewayPayment.other(paymentId);
+    }
+
+    private BillingKeyPaymentInput createBillingKeyPaymentInput(String billingKey, String orderName, PaymentAmountInput amount, Currency currency) {
+        return new BillingKeyPaymentInput(
+                portOneProperties.storeId(),
+                billingKey,
+                portOneProperties.channelKey(),
+                orderName,
+                null,
+                null,
+                amount,
+                currency,
+                null,
+                null,
+                null,
+                null,
+                null,
+                null,
+                null,
+                null,
+                null,
+                null,
+                null,
+                null,
+                null
+        );
+    }
+}
@@ -0,0 +1,147 @@
+package app.mockly.domain.payment.client;
+
+import app.mockly.global.common.ApiStatusCode;
+import app.mockly.global.config.PortOneResilienceProperties;
+import app.mockly.global.exception.BusinessException;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+/**
+ * PortOne 호출 보호
+ * - API별 서킷 브레이커: PortOne이 느려지거나 장애일 때 타임아웃까지 기다리지 않고 바로 실패
+ * - bulkhead: 인스턴스 전체의 동시 호출 수 제한 (요청 스레드 + 배치 작업)
+ * 지표
+ * - portone.circuit.state{operation}: 0=CLOSED, 1=OPEN, 2=HALF_OPEN
+ * - portone.calls{operation, result=success|failure|rejected_open|rejected_bulkhead}
+ * - portone.bulkhead.available: 남은 동시 호출 슬롯
+ */
+@Slf4j
+@Component
+public class PortOneResilience {
+    public static final String RESULT_SUCCESS = "success";
+    public static final String RESULT_FAILURE = "failure";
+    public static final String RESULT_REJECTED_OPEN = "rejected_open";
+    public static final String RESULT_REJECTED_BULKHEAD = "rejected_bulkhead";
+
+    private static final String PORTONE_ERROR_PACKAGE = "io.portone.sdk.server.errors";
+
+    private final Map<PortOneOperation, CircuitBreaker> circuitBreakers = new EnumMap<>(PortOneOperation.class);
+    private final Semaphore bulkhead;
+    private final long maxWaitMillis;
+    private final long slowCallNanos;
+    private final MeterRegistry meterRegistry;
+
+    public PortOneResilience(PortOneResilienceProperties properties, MeterRegistry meterRegistry) {
+        this.bulkhead = new Semaphore(properties.getMaxConcurrentCalls(), true);
+        this.maxWaitMillis = properties.getMaxWait().toMillis();
+        this.slowCallNanos = properties.getSlowCallThreshold().toNanos();
+        this.meterRegistry = meterRegistry;
+
+        for (PortOneOperation operation : PortOneOperation.values()) {
+            CircuitBreaker circuitBreaker = new CircuitBreaker(
+                    operation.getTag(),
+                    properties.getSlidingWindowSize(),
+                    properties.getMinimumCalls(),
+                    properties.getFailureRateThreshold(),
+                    properties.getOpenDuration(),
+                    properties.getHalfOpenCalls(),
+                    System::nanoTime);
+            circuitBreakers.put(operation, circuitBreaker);
+
+            Gauge.builder("portone.circuit.state", circuitBreaker, breaker -> breaker.state().gaugeValue())
+                    .description("PortOne 서킷 상태 (0=CLOSED, 1=OPEN, 2=HALF_OPEN)")
+                    .tag("operation", operation.getTag())
+                    .register(meterRegistry);
+        }
+        Gauge.builder("portone.bulkhead.available", bulkhead, Semaphore::availablePermits)
+                .description("남은 PortOne 동시 호출 슬롯")
+                .register(meterRegistry);
+    }
+
+    public <T> CompletableFuture<T> execute(PortOneOperation operation, Supplier<CompletableFuture<T>> call) {
+        CircuitBreaker circuitBreaker = circuitBreakers.get(operation);
+        long permit = circuitBreaker.tryAcquire();
+        if (permit == CircuitBreaker.REJECTED) {
+            count(operation, RESULT_REJECTED_OPEN);
+            return CompletableFuture.failedFuture(new BusinessException(ApiStatusCode.PAYMENT_GATEWAY_UNAVAILABLE,
+                    "결제 대행사 응답이 원활하지 않습니다. 잠시 후 다시 시도해주세요."));
+        }
+        if (!acquireBulkhead()) {
+            circuitBreaker.release(permit);
+            count(operation, RESULT_REJECTED_BULKHEAD);
+            log.warn("PortOne 동시 호출 한도 초과 - operation: {}", operation.getTag());
+            return CompletableFuture.failedFuture(new BusinessException(ApiStatusCode.PAYMENT_GATEWAY_UNAVAILABLE,
+                    "결제 요청이 많아 처리하지 못했습니다. 잠시 후 다시 시도해주세요."));
+        }
+
+        long startedAt = System.nanoTime();
+        CompletableFuture<T> future;
+        try {
+            future = call.get();
+        } catch (RuntimeException e) {
+            future = CompletableFuture.failedFuture(e);
+        }
+        return future.whenComplete((result, error) -> {
+            bulkhead.release();
+            boolean failure = (error != null && isFailure(unwrap(error)))
+                    || System.nanoTime() - startedAt >= slowCallNanos;
+            circuitBreaker.onResult(permit, failure);
+            count(operation, failure ? RESULT_FAILURE : RESULT_SUCCESS);
+        });
+    }
+
+    public CircuitBreaker.State state(PortOneOperation operation) {
+        return circuitBreakers.get(operation).state();
+    }
+
+    /**
+     * PortOne이 요청을 이해하고 거절한 경우(중복 예약, 잘못된 빌링키, 카드 거절 등)는 장애가 아니므로 실패율에 넣지 않는다.
+     * 타임아웃, 네트워크 오류, 알 수 없는 응답(5xx 등)만 실패로 집계
+     */
+    private static boolean isFailure(Throwable error) {
+        if (error instanceof BusinessException) {
+            return false;
+        }
+        if (error instanceof TimeoutException || error instanceof IOException) {
+            return true;
+        }
+        Class<?> type = error.getClass();
+        return !type.getPackageName().equals(PORTONE_ERROR_PACKAGE)
+                || type.getSimpleName().equals("UnknownException");
+    }
+
+    static Throwable unwrap(Throwable error) {
+        Throwable current = error;
+        while ((current instanceof CompletionException || current instanceof ExecutionException)
+                && current.getCause() != null) {
+            current = current.getCause();
+        }
+        return current;
+    }
+
+    private boolean acquireBulkhead() {
+        try {
+            return bulkhead.tryAcquire(maxWaitMillis, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private void count(PortOneOperation operation, String result) {
+        meterRegistry.counter("portone.calls", "operation", operation.getTag(), "result", result).increment();
+    }
+}
@@ -1,56 +1,101 @@
 package app.mockly.domain.payment.client;
 
 import app.mockly.global.common.ApiStatusCode;
-import app.mockly.global.config.PortOneProperties;
+import app.mockly.global.config.BillingKeyCacheProperties;
 import app.mockly.global.exception.BusinessException;
-import io.portone.sdk.server.PortOneClient;
-import io.portone.sdk.server.common.BillingKeyPaymentInput;
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import io.portone.sdk.server.common.Currency;
 import io.portone.sdk.server.common.PaymentAmountInput;
 import io.portone.sdk.server.errors.PaymentScheduleAlreadyExistsException;
-import io.portone.sdk.server.payment.PayWithBillingKeyResponse;
-import io.portone.sdk.server.payment.billingkey.BillingKeyInfo;
-import io.portone.sdk.server.payment.paymentschedule.CreatePaymentScheduleResponse;
-import io.portone.sdk.server.payment.paymentschedule.PaymentScheduleSummary;
-import lombok.RequiredArgsConstructor;
+import jakarta.annotation.PreDestroy;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 
 import java.time.Instant;
 import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
+import java.util.function.Function;
 
+/**
+ * PG 호출 (실제 호출은 PaymentGateway 구현체 - PortOne 또는 시뮬레이터)
+ * - *Async: CompletableFuture를 그대로 이어 붙일 수 있는 비동기 API, 실패는 BusinessException으로 완료
+ *   후속 작업은 SDK 스레드가 아닌 가상 스레드에서 이어진다.
+ * - 동기 메서드: 비동기 API를 기다리는 래퍼 (요청 스레드가 가상 스레드라 대기 중 플랫폼 스레드를 잡지 않음)
+ * - 모든 호출은 PortOneResilience(API별 서킷 브레이커 + bulkhead)와 API별 타임아웃을 거친다.
+ */
 @Slf4j
 @Component
-@RequiredArgsConstructor
 public class PortOneService {
-    private final PortOneClient portOneClient;
-    private final PortOneProperties portOneProperties;
+    private final PaymentGateway paymentGateway;
+    private final PortOneResilience portOneResilience;
+    private final ExecutorService callbackExecutor = Executors.newVirtualThreadPerTaskExecutor();
+    // 노드 로컬 캐시, 다른 노드의 무효화는 TTL 만료 후 반영된다.
+    private final AsyncCache<String, BillingKeyCard> billingKeyCache;
+
+    public PortOneService(PaymentGateway paymentGateway,
+                          PortOneResilience portOneResilience,
+                          BillingKeyCacheProperties billingKeyCacheProperties) {
+        this.paymentGateway = paymentGateway;
+        this.portOneResilience = portOneResilience;
+        this.billingKeyCache = Caffeine.newBuilder()
+                .maximumSize(billingKeyCacheProperties.getMaxSize())
+                .expireAfterWrite(billingKeyCacheProperties.getTtl())
+                .buildAsync();
+    }
 
     /**
      * 빌링키 조회 및 검증
+     * 조회 결과(카드사, 마스킹된 카드 번호)는 빌링키별로 캐시하고, 같은 빌링키의 동시 조회는 한 번만 호출한다.
+     * 실패한 조회는 캐시하지 않는다.
+     */
+    public BillingKeyCard getBillingKey(String billingKey) {
+        return await(getBillingKeyAsync(billingKey));
+    }
+
+    public CompletableFuture<BillingKeyCard> getBillingKeyAsync(String billingKey) {
+        return billingKeyCache.get(billingKey, (key, executor) -> fetchBillingKey(key));
+    }
+
+    /**
+     * 결제 수단 비활성화 등으로 더 이상 쓰지 않는 빌링키의 캐시 제거
      */
-    public BillingKeyInfo getBillingKey(String billingKey) {
+    public void evictBillingKey(String billingKey) {
+        billingKeyCache.synchronous().invalidate(billingKey);
+    }
+
+    private CompletableFuture<BillingKeyCard> fetchBillingKey(String billingKey) {
         log.info("PortOne Billing Key 조회: {}", billingKey);
 
-        try {
-            return portOneClient.getPayment().getBillingKey()
-                    .getBillingKeyInfo(billingKey)
-                    .orTimeout(3, TimeUnit.SECONDS)
-                    .join();
-        } catch (Exception e) {
-            log.error("빌링키 조회 실패: {}", billingKey, e);
+        return complete(portOneResilience.execute(PortOneOperation.GET_BILLING_KEY, () -> paymentGateway
+                .getBillingKey(billingKey)
+                .orTimeout(3, TimeUnit.SECONDS)), error -> {
+            log.error("빌링키 조회 실패: {}", billingKey, error);
             // TODO: 다른 Exception으로 만들 필요가 있는지 확인 필요
-            throw new BusinessException(ApiStatusCode.BAD_REQUEST, "유효하지 않은 빌링키입니다.");
-        }
+            return new BusinessException(ApiStatusCode.BAD_REQUEST, "유효하지 않은 빌링키입니다.");
+        });
     }
 
     /**
      * 빌링키로 결제 처리
      */
-    public PayWithBillingKeyResponse payWithBillingKey(
+    public void payWithBillingKey(
+            String paymentId,
+            String billingKey,
+            String orderName,
+            Currency currency,
+            PaymentAmountInput amount
+    ) {
+        await(payWithBillingKeyAsync(paymentId, billingKey, orderName, currency, amount));
+    }
+
+    public CompletableFuture<Void> payWithBillingKeyAsync(
             String paymentId,
             String billingKey,
             String orderName,
@@ -59,108 +104,141 @@ public class PortOneService {
     ) {
         log.info("Billing Key 결제 시작 - paymentId: {}, billingKey: {}", paymentId, billingKey);
 
-        try {
-            return portOneClient.getPayment().payWithBillingKey(
-                    paymentId,
-                    billingKey,
-                    portOneProperties.channelKey(),
-                    orderName,
-                    null,
-                    null,
-                    amount,
-                    currency,
-                    null,
-                    null,
-                    null,
-                    null,
-                    null,
-                    null,
-                    null,
-                    null,
-                    null,
-                    null,
-                    null,
-                    null,
-                    null)
-                    .orTimeout(10, TimeUnit.SECONDS)
-                    .join();
-        } catch (Exception e) {
-            log.error("빌링키 결제 실패 - paymentId: {}", paymentId, e);
+        CompletableFuture<Void> future = portOneResilience.execute(PortOneOperation.PAY_WITH_BILLING_KEY, () -> paymentGateway
+                .payWithBillingKey(paymentId, billingKey, orderName, currency, amount)
+                .orTimeout(10, TimeUnit.SECONDS));
+        return complete(future, error -> {
+            log.error("빌링키 결제 실패 - paymentId: {}", paymentId, error);
             // TODO: 다른 Exception으로 만들 필요가 있는지 확인 필요
-            throw new BusinessException(ApiStatusCode.INTERNAL_SERVER_ERROR, "결제 처리 중 오류가 발생했습니다");
-        }
-
+            return new BusinessException(ApiStatusCode.INTERNAL_SERVER_ERROR, "결제 처리 중 오류가 발생했습니다");
+        });
     }
 
     public String createPaymentSchedule(String paymentId, String billingKey, String orderName, Currency currency, PaymentAmountInput amount, Instant timeToPay) {
+        return await(createPaymentScheduleAsync(paymentId, billingKey, orderName, currency, amount, timeToPay));
+    }
+
+    public CompletableFuture<String> createPaymentScheduleAsync(String paymentId, String billingKey, String orderName, Currency currency, PaymentAmountInput amount, Instant timeToPay) {
         log.info("결제 예약 생성 - paymentId: {}, timeToPay: {}", paymentId, timeToPay);
 
-        BillingKeyPaymentInput billingKeyPaymentInput = createBillingKeyPaymentInput(billingKey, orderName, amount, currency);
-        try {
-            CreatePaymentScheduleResponse response = portOneClient.getPayment().getPaymentSchedule()
-                    .createPaymentSchedule(paymentId, billingKeyPaymentInput, timeToPay)
-                    .orTimeout(10, TimeUnit.SECONDS)
-                    .join();
-
-            String scheduleId = response.getSchedule().getId();
-            log.info("결제 예약 생성 완료 - scheduleId: {}", scheduleId);
-            return scheduleId;
-        } catch (CompletionException e) {
-            Throwable cause = e.getCause();
-            if (cause instanceof PaymentScheduleAlreadyExistsException) {
+        CompletableFuture<String> future = portOneResilience.execute(PortOneOperation.CREATE_PAYMENT_SCHEDULE, () -> paymentGateway
+                        .createPaymentSchedule(paymentId, billingKey, orderName, currency, amount, timeToPay)
+                        .orTimeout(10, TimeUnit.SECONDS))
+                .thenApply(scheduleId -> {
+                    log.info("결제 예약 생성 완료 - scheduleId: {}", scheduleId);
+                    return scheduleId;
+                });
+        return complete(future, error -> {
+            if (error instanceof PaymentScheduleAlreadyExistsException) {
                 log.warn("결제 예약이 이미 존재함 - paymentId: {}", paymentId);
-                throw new BusinessException(ApiStatusCode.DUPLICATE_RESOURCE, "결제 예약이 이미 존재합니다.");
+                return new BusinessException(ApiStatusCode.DUPLICATE_RESOURCE, "결제 예약이 이미 존재합니다.");
             }
-            if (cause instanceof TimeoutException) {
+            if (error instanceof TimeoutException) {
                 log.error("결제 예약 생성 타임아웃 - paymentId: {}", paymentId);
-                throw new BusinessException(ApiStatusCode.INTERNAL_SERVER_ERROR, "결제 예약 생성 중 타임아웃이 발생했습니다.");
+                return new BusinessException(ApiStatusCode.INTERNAL_SERVER_ERROR, "결제 예약 생성 중 타임아웃이 발생했습니다.");
             }
-            log.error("결제 예약 생성 실패 - paymentId: {}", paymentId, e);
-            throw new BusinessException(ApiStatusCode.INTERNAL_SERVER_ERROR, "결제 예약 생성 중 오류가 발생했습니다.");
-        } catch (Exception e) {
-            log.error("결제 예약 생성 실패 - paymentId: {}", paymentId, e);
-            throw new BusinessException(ApiStatusCode.INTERNAL_SERVER_ERROR, "결제 예약 생성 중 오류가 발생했습니다.");
-        }
+            log.error("결제 예약 생성 실패 - paymentId: {}", paymentId, error);
+            return new BusinessException(ApiStatusCode.INTERNAL_SERVER_ERROR, "결제 예약 생성 중 오류가 발생했습니다.");
+        });
     }
 
     public void revokePaymentSchedule(String scheduleId) {
+        await(revokePaymentScheduleAsync(scheduleId));
+    }
+
+    public CompletableFuture<Void> revokePaymentScheduleAsync(String scheduleId) {
         log.info("결제 예약 취소 - scheduleId: {}", scheduleId);
 
+        CompletableFuture<Void> future = portOneResilience.execute(PortOneOperation.REVOKE_PAYMENT_SCHEDULE, () -> paymentGateway
+                        .revokePaymentSchedules(List.of(scheduleId))
+                        .orTimeout(5, TimeUnit.SECONDS))
+                .thenAccept(revoked -> log.info("결제 예약 취소 완료 - scheduleId: {}", scheduleId));
+        return complete(future, error -> {
+            log.error("결제 예약 취소 실패 - scheduleId: {}", scheduleId, error);
+            return new BusinessException(ApiStatusCode.INTERNAL_SERVER_ERROR, "결제 예약 취소 도중 오류가 발생했습니다.");
+        });
+    }
+
+    /**
+     * 여러 결제 예약을 한 번의 호출로 취소하고, 실제로 취소된 scheduleId를 돌려준다.
+     * 응답에 없는 scheduleId는 취소되지 않은 것으로 본다.
+     */
+    public Set<String> revokePaymentSchedules(List<String> scheduleIds) {
+        return await(revokePaymentSchedulesAsync(scheduleIds));
+    }
+
+    public CompletableFuture<Set<String>> revokePaymentSchedulesAsync(List<String> scheduleIds) {
+        log.info("결제 예약 일괄 취소 - 건수: {}", scheduleIds.size());
+
+        CompletableFuture<Set<String>> future = portOneResilience.execute(PortOneOperation.REVOKE_PAYMENT_SCHEDULE, () -> paymentGateway
+                        .revokePaymentSchedules(scheduleIds)
+                        .orTimeout(10, TimeUnit.SECONDS))
+                .thenApply(revoked -> {
+                    log.info("결제 예약 일괄 취소 완료 - 요청: {}건, 취소: {}건", scheduleIds.size(), revoked.size());
+                    return revoked;
+                });
+        return complete(future, error -> {
+            log.error("결제 예약 일괄 취소 실패 - 건수: {}", scheduleIds.size(), error);
+            return new BusinessException(ApiStatusCode.INTERNAL_SERVER_ERROR, "결제 예약 취소 도중 오류가 발생했습니다.");
+        });
+    }
+
+    /**
+     * 결제 단건 조회 (웹훅 수신 시 PG 측 결제 상태 재확인)
+     */
+    public GatewayPayment getPayment(String paymentId) {
+        return await(getPaymentAsync(paymentId));
+    }
+
+    public CompletableFuture<GatewayPayment> getPaymentAsync(String paymentId) {
+        CompletableFuture<GatewayPayment> future = portOneResilience.execute(PortOneOperation.GET_PAYMENT, () -> paymentGateway
+                .getPayment(paymentId)
+                .orTimeout(5, TimeUnit.SECONDS));
+        return complete(future, error -> {
+            log.error("결제 조회 실패 - paymentId: {}", paymentId, error);
+            return new BusinessException(ApiStatusCode.INTERNAL_SERVER_ERROR, "결제 조회 중 오류가 발생했습니다.");
+        });
+    }
+
+    /**
+     * 비동기 결과를 기다리고, 실패하면 원래의 BusinessException을 그대로 던진다.
+     */
+    public static <T> T await(CompletableFuture<T> future) {
         try {
-            portOneClient.getPayment().getPaymentSchedule()
-                    .revokePaymentSchedules(null, List.of(scheduleId))
-                    .orTimeout(5, TimeUnit.SECONDS)
-                    .join();
-            log.info("결제 예약 취소 완료 - scheduleId: {}", scheduleId);
-        } catch (Exception e) {
-            log.error("결제 예약 취소 실패 - scheduleId: {}", scheduleId, e);
-            throw new BusinessException(ApiStatusCode.INTERNAL_SERVER_ERROR, "결제 예약 취소 도중 오류가 발생했습니다.");
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
         }
     }
 
-    private BillingKeyPaymentInput createBillingKeyPaymentInput(String billingKey, String orderName, PaymentAmountInput amount, Currency currency) {
-        return new BillingKeyPaymentInput(
-                portOneProperties.storeId(),
-                billingKey,
-                portOneProperties.channelKey(),
-                orderName,
-                null,
-                null,
-                amount,
-                currency,
-                null,
-                null,
-                null,
-                null,
-                null,
-                null,
-                null,
-                null,
-                null,
-                null,
-                null,
-                null,
-                null
-        );
+    /**
+     * PG 예외를 BusinessException으로 바꾸고, 후속 작업이 가상 스레드에서 실행되도록 넘긴다.
+     * 이미 BusinessException인 경우(서킷 OPEN, bulkhead 거절, 빌링키 검증 실패 등)는 그대로 전달
+     */
+    private <T> CompletableFuture<T> complete(CompletableFuture<T> future, Function<Throwable, BusinessException> errorMapper) {
+        return future.handleAsync((result, error) -> {
+            if (error == null) {
+                return result;
+            }
+            Throwable cause = PortOneResilience.unwrap(error);
+            if (cause instanceof BusinessException businessException) {
+                throw businessException;
+            }
+            throw errorMapper.apply(cause);
+        }, callbackExecutor);
+    }
+
+    /**
+     * 종료 시 진행 중인 후속 작업을 잠시 기다린 뒤 남은 작업은 중단
+     */
+    @PreDestroy
+    void shutdown() throws InterruptedException {
+        callbackExecutor.shutdown();
+        if (!callbackExecutor.awaitTermination(5, TimeUnit.SECONDS)) {
+            callbackExecutor.shutdownNow();
+        }
     }
 }
@@ -0,0 +1,199 @@
+package app.mockly.domain.payment.client.simulator;
+
+import app.mockly.domain.payment.client.BillingKeyCard;
+import app.mockly.domain.payment.client.GatewayPayment;
+import app.mockly.domain.payment.client.PaymentGateway;
+import app.mockly.domain.payment.entity.PaymentMethodType;
+import app.mockly.global.common.ApiStatusCode;
+import app.mockly.global.config.PaymentGatewayProperties;
+import app.mockly.global.exception.BusinessException;
+import io.portone.sdk.server.common.Currency;
+import io.portone.sdk.server.common.PaymentAmountInput;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.time.Instant;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * 부하 테스트용 프로세스 내 가상 PG (payment-gateway.type=simulator)
+ * - 모든 호출은 설정한 지연 분포를 따르고, 비율에 따라 통신 오류 / 무응답 / 카드 거절로 실패
+ * - 결제 예약은 예약 시각(또는 schedule-fire-delay 뒤)에 실행되고, 결과를 서명된 웹훅으로 보낸다.
+ * - 즉시 결제도 실제 PortOne처럼 결제 후 웹훅을 보낸다.
+ * - 공유 TaskScheduler(스레드 몇 개)는 시각만 맞추고, 실행과 웹훅 전송(앱의 웹훅 처리까지 동기 호출)은 가상 스레드에서
+ * 상태는 메모리에만 있으므로 재시작하면 예약이 사라진다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "payment-gateway", name = "type", havingValue = "simulator")
+public class SimulatedPaymentGateway implements PaymentGateway {
+    private static final double Z_99 = 2.326; // 표준 정규 분포의 99퍼센타일
+
+    private final PaymentGatewayProperties.Simulator properties;
+    private final TaskScheduler taskScheduler;
+    private final SimulatedWebhookSender webhookSender;
+    private final Random random;
+    private final ExecutorService responseExecutor = Executors.newVirtualThreadPerTaskExecutor();
+
+    private final Map<String, SimulatedSchedule> schedules = new ConcurrentHashMap<>();
+    private final Map<String, String> scheduleIdsByPaymentId = new ConcurrentHashMap<>();
+    private final Map<String, GatewayPayment> payments = new ConcurrentHashMap<>();
+    private final AtomicLong scheduleSequence = new AtomicLong();
+
+    public SimulatedPaymentGateway(PaymentGatewayProperties properties,
+                                   TaskScheduler taskScheduler,
+                                   SimulatedWebhookSender webhookSender) {
+        this.properties = properties.getSimulator();
+        this.taskScheduler = taskScheduler;
+        this.webhookSender = webhookSender;
+        this.random = this.properties.getSeed() == null ? new Random() : new Random(this.properties.getSeed());
+        log.warn("[시뮬레이터] 가상 PG 사용 중 - 실제 결제가 발생하지 않습니다. 지연: {} (중앙값 {}, p99 {}), 오류율: {}, 무응답: {}, 거절율: {}",
+                this.properties.getLatencyDistribution(), this.properties.getLatencyMedian(), this.properties.getLatencyP99(),
+                this.properties.getErrorRate(), this.properties.getTimeoutRate(), this.properties.getDeclineRate());
+    }
+
+    @Override
+    public CompletableFuture<BillingKeyCard> getBillingKey(String billingKey) {
+        return respond(() -> new BillingKeyCard(
+                String.format("4000-****-****-%04d", Math.floorMod(billingKey.hashCode(), 10_000)),
+                "SIMULATOR"));
+    }
+
+    @Override
+    public CompletableFuture<Void> payWithBillingKey(String paymentId, String billingKey, String orderName,
+                                                     Currency currency, PaymentAmountInput amount) {
+        return respond(() -> {
+            boolean paid = settle(paymentId, billingKey);
+            if (!paid) {
+                throw new BusinessException(ApiStatusCode.BAD_REQUEST, "[시뮬레이터] 카드 승인이 거절되었습니다.");
+            }
+            return null;
+        });
+    }
+
+    @Override
+    public CompletableFuture<String> createPaymentSchedule(String paymentId, String billingKey, String orderName,
+                                                           Currency currency, PaymentAmountInput amount, Instant timeToPay) {
+        return respond(() -> {
+            String scheduleId = "sim-schedule-" + scheduleSequence.incrementAndGet();
+            if (scheduleIdsByPaymentId.putIfAbsent(paymentId, scheduleId) != null) {
+                throw new BusinessException(ApiStatusCode.DUPLICATE_RESOURCE, "결제 예약이 이미 존재합니다.");
+            }
+            schedules.put(scheduleId, new SimulatedSchedule(paymentId, billingKey));
+
+            Instant fireAt = properties.getScheduleFireDelay() == null
+                    ? timeToPay
+                    : Instant.now().plus(properties.getScheduleFireDelay());
+            taskScheduler.schedule(() -> responseExecutor.execute(() -> fire(scheduleId)), fireAt);
+            return scheduleId;
+        });
+    }
+
+    @Override
+    public CompletableFuture<Set<String>> revokePaymentSchedules(List<String> scheduleIds) {
+        return respond(() -> {
+            // 없는(이미 실행/취소된) 예약은 응답에서 빠진다
+            Set<String> revoked = new HashSet<>();
+            for (String scheduleId : scheduleIds) {
+                SimulatedSchedule schedule = schedules.remove(scheduleId);
+                if (schedule != null) {
+                    scheduleIdsByPaymentId.remove(schedule.paymentId());
+                    revoked.add(scheduleId);
+                }
+            }
+            return revoked;
+        });
+    }
+
+    @Override
+    public CompletableFuture<GatewayPayment> getPayment(String paymentId) {
+        return respond(() -> payments.getOrDefault(paymentId, GatewayPayment.other(paymentId)));
+    }
+
+    /**
+     * 예약 시각 도달: 취소되지 않은 예약이면 결제하고 결과 웹훅 전송
+     */
+    void fire(String scheduleId) {
+        SimulatedSchedule schedule = schedules.remove(scheduleId);
+        if (schedule == null) {
+            return;
+        }
+        scheduleIdsByPaymentId.remove(schedule.paymentId());
+        log.debug("[시뮬레이터] 예약 결제 실행 - scheduleId: {}, paymentId: {}", scheduleId, schedule.paymentId());
+        settle(schedule.paymentId(), schedule.billingKey());
+    }
+
+    /**
+     * 결제 결과를 기록하고 웹훅을 예약, 승인 여부를 돌려준다.
+     */
+    private boolean settle(String paymentId, String billingKey) {
+        boolean paid = random.nextDouble() >= properties.getDeclineRate();
+        GatewayPayment payment = paid
+                ? GatewayPayment.paid(paymentId, PaymentMethodType.CARD, billingKey)
+                : GatewayPayment.failed(paymentId, "[시뮬레이터] 카드 승인 거절");
+        payments.put(paymentId, payment);
+
+        String type = paid ? SimulatedWebhookSender.TRANSACTION_PAID : SimulatedWebhookSender.TRANSACTION_FAILED;
+        taskScheduler.schedule(() -> responseExecutor.execute(() -> webhookSender.send(type, paymentId)),
+                Instant.now().plus(properties.getWebhookDelay()));
+        return paid;
+    }
+
+    /**
+     * 지연 분포에 따라 늦게 응답하고, 설정한 비율만큼 무응답 / 통신 오류로 실패
+     */
+    private <T> CompletableFuture<T> respond(Supplier<T> result) {
+        double roll = random.nextDouble();
+        if (roll < properties.getTimeoutRate()) {
+            return new CompletableFuture<>();
+        }
+        Executor delayed = CompletableFuture.delayedExecutor(sampleLatencyMillis(), TimeUnit.MILLISECONDS, responseExecutor);
+        if (roll < properties.getTimeoutRate() + properties.getErrorRate()) {
+            return CompletableFuture.supplyAsync(() -> {
+                throw new CompletionException(new IOException("[시뮬레이터] 통신 오류"));
+            }, delayed);
+        }
+        return CompletableFuture.supplyAsync(result, delayed);
+    }
+
+    private long sampleLatencyMillis() {
+        long median = properties.getLatencyMedian().toMillis();
+        if (properties.getLatencyDistribution() == PaymentGatewayProperties.LatencyDistribution.FIXED || median <= 0) {
+            return Math.max(median, 0);
+        }
+        long p99 = Math.max(properties.getLatencyP99().toMillis(), median);
+        double sigma = Math.log((double) p99 / median) / Z_99;
+        return Math.round(median * Math.exp(sigma * random.nextGaussian()));
+    }
+
+    /**
+     * 종료 시 진행 중인 응답을 잠시 기다린 뒤 남은 작업은 중단
+     */
+    @PreDestroy
+    void shutdown() throws InterruptedException {
+        responseExecutor.shutdown();
+        if (!responseExecutor.awaitTermination(5, TimeUnit.SECONDS)) {
+            responseExecutor.shutdownNow();
+        }
+    }
+
+    private record SimulatedSchedule(String paymentId, String billingKey) {
+    }
+}
@@ -0,0 +1,114 @@
+package app.mockly.domain.payment.client.simulator;
+
+import app.mockly.domain.payment.controller.WebhookController;
+import app.mockly.global.config.PortOneProperties;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * 시뮬레이터 결제 결과를 PortOne과 같은 형식(Standard Webhooks 서명)으로 WebhookController에 전달
+ * HTTP를 거치지 않고 컨트롤러를 직접 호출하므로, 서명 검증부터 구독 처리까지 실제 웹훅과 같은 경로를 탄다.
+ * 서명 키는 portone.webhook-secret (whsec_ 접두사 뒤 base64)
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "payment-gateway", name = "type", havingValue = "simulator")
+public class SimulatedWebhookSender {
+    public static final String TRANSACTION_PAID = "Transaction.Paid";
+    public static final String TRANSACTION_FAILED = "Transaction.Failed";
+
+    private static final String SECRET_PREFIX = "whsec_";
+
+    private final ObjectProvider<WebhookController> webhookController; // WebhookController → ... → PaymentGateway 순환 참조 방지
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+    private final String storeId;
+    private final SecretKeySpec signingKey;
+
+    public SimulatedWebhookSender(ObjectProvider<WebhookController> webhookController,
+                                  ObjectMapper objectMapper,
+                                  MeterRegistry meterRegistry,
+                                  PortOneProperties portOneProperties) {
+        this.webhookController = webhookController;
+        this.objectMapper = objectMapper;
+        this.meterRegistry = meterRegistry;
+        this.storeId = portOneProperties.storeId();
+        this.signingKey = signingKey(portOneProperties.webhookSecret());
+    }
+
+    public void send(String type, String paymentId) {
+        SignedWebhook webhook = sign(type, paymentId);
+        String result;
+        try {
+            ResponseEntity<Void> response = webhookController.getObject()
+                    .handleWebhook(webhook.webhookId(), webhook.signature(), webhook.timestamp(), webhook.body());
+            result = response.getStatusCode().is2xxSuccessful() ? "delivered" : "rejected";
+        } catch (Exception e) {
+            log.warn("[시뮬레이터] 웹훅 처리 실패 - type: {}, paymentId: {}", type, paymentId, e);
+            result = "error";
+        }
+        meterRegistry.counter("payment.simulator.webhooks", "type", type, "result", result).increment();
+    }
+
+    SignedWebhook sign(String type, String paymentId) {
+        Instant now = Instant.now();
+        String webhookId = "msg_sim_" + UUID.randomUUID();
+        String timestamp = String.valueOf(now.getEpochSecond());
+
+        Map<String, Object> data = new LinkedHashMap<>();
+        data.put("storeId", storeId);
+        data.put("paymentId", paymentId);
+        data.put("transactionId", UUID.randomUUID().toString());
+        Map<String, Object> payload = new LinkedHashMap<>();
+        payload.put("type", type);
+        payload.put("timestamp", now.toString());
+        payload.put("data", data);
+
+        String body;
+        try {
+            body = objectMapper.writeValueAsString(payload);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("웹훅 본문 생성 실패", e);
+        }
+        String signature = "v1," + hmac(webhookId + "." + timestamp + "." + body);
+        return new SignedWebhook(webhookId, timestamp, signature, body);
+    }
+
+    private String hmac(String content) {
+        try {
+            Mac mac = Mac.getInstance("HmacSHA256");
+            mac.init(signingKey);
+            return Base64.getEncoder().encodeToString(mac.doFinal(content.getBytes(StandardCharsets.UTF_8)));
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("웹훅 서명 실패", e);
+        }
+    }
+
+    private static SecretKeySpec signingKey(String webhookSecret) {
+        String encoded = webhookSecret.startsWith(SECRET_PREFIX) ? webhookSecret.substring(SECRET_PREFIX.length()) : webhookSecret;
+        try {
+            return new SecretKeySpec(Base64.getDecoder().decode(encoded), "HmacSHA256");
+        } catch (IllegalArgumentException e) {
+            throw new IllegalStateException("시뮬레이터 웹훅 서명에는 whsec_<base64> 형식의 portone.webhook-secret이 필요합니다.", e);
+        }
+    }
+
+    record SignedWebhook(String webhookId, String timestamp, String signature, String body) {
+    }
+}
@@ -0,0 +1,27 @@
+package app.mockly.domain.payment.dto.response;
+
+import app.mockly.domain.payment.entity.OutboxEvent;
+
+import java.time.Instant;
+
+public record FailedOutboxEventResponse(
+        Long id,
+        String eventType,
+        String aggregateType,
+        Long aggregateId,
+        int retryCount,
+        String failReason,
+        Instant failedAt
+) {
+    public static FailedOutboxEventResponse from(OutboxEvent event) {
+        return new FailedOutboxEventResponse(
+                event.getId(),
+                event.getEventType(),
+                event.getAggregateType(),
+                event.getAggregateId(),
+                event.getRetryCount(),
+                event.getFailReason(),
+                event.getUpdatedAt()
+        );
+    }
+}
@@ -0,0 +1,88 @@
+package app.mockly.domain.payment.entity;
+
+import app.mockly.global.common.BaseEntity;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+
+/**
+ * 배치 작업 진행 위치 (작업 이름당 한 행)
+ * chunk가 커밋될 때마다 마지막으로 처리한 id를 기록하고, RUNNING 상태로 남아 있으면 다음 실행이 이어서 처리한다.
+ */
+@Entity
+@Table(name = "job_checkpoint")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class JobCheckpoint extends BaseEntity {
+
+    @Id
+    @Column(length = 100)
+    private String jobName;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private JobCheckpointStatus status;
+
+    @Column(nullable = false)
+    private Instant cutoff; // 실행 시작 시 정한 대상 기준 시각, 재개해도 바뀌지 않음
+
+    @Column(nullable = false)
+    private Long lastProcessedId;
+
+    @Column(nullable = false)
+    private long processedCount;
+
+    @Column(nullable = false)
+    private Instant startedAt;
+
+    private Instant completedAt;
+
+    private Long fencingToken; // 마지막으로 기록한 실행의 잠금 토큰
+
+    public static JobCheckpoint start(String jobName, Instant cutoff) {
+        JobCheckpoint checkpoint = new JobCheckpoint();
+        checkpoint.jobName = jobName;
+        checkpoint.restart(cutoff);
+        return checkpoint;
+    }
+
+    public void restart(Instant cutoff) {
+        this.status = JobCheckpointStatus.RUNNING;
+        this.cutoff = cutoff;
+        this.lastProcessedId = 0L;
+        this.processedCount = 0;
+        this.startedAt = Instant.now();
+        this.completedAt = null;
+    }
+
+    public void advance(Long lastProcessedId, int processed) {
+        this.lastProcessedId = lastProcessedId;
+        this.processedCount += processed;
+    }
+
+    public void complete() {
+        this.status = JobCheckpointStatus.COMPLETED;
+        this.completedAt = Instant.now();
+    }
+
+    /**
+     * 더 작은 토큰(만료된 잠금)을 가진 실행의 기록을 거부, 잠금 없이 실행하면 확인하지 않음
+     */
+    public boolean acceptFencingToken(Long token) {
+        if (token == null) {
+            return true;
+        }
+        if (fencingToken != null && token < fencingToken) {
+            return false;
+        }
+        this.fencingToken = token;
+        return true;
+    }
+
+    public boolean isRunning() {
+        return status == JobCheckpointStatus.RUNNING;
+    }
+}
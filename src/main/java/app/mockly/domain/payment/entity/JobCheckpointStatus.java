@@ -0,0 +1,5 @@
+package app.mockly.domain.payment.entity;
+
+public enum JobCheckpointStatus {
+    RUNNING, COMPLETED
+}
@@ -1,8 +1,8 @@
 package app.mockly.domain.payment.entity;
 
+import app.mockly.domain.payment.outbox.ScheduleCreatePayload;
 import app.mockly.global.common.BaseEntity;
 import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import jakarta.persistence.*;
 import lombok.AccessLevel;
@@ -10,8 +10,13 @@ import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
+import java.time.Instant;
+
 @Entity
-@Table(name = "outbox_event")
+@Table(name = "outbox_event", indexes = {
+        @Index(name = "idx_outbox_event_aggregate", columnList = "aggregateId, eventType")
+})
+@EntityListeners(OutboxEventCreatedListener.class)
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor(access = AccessLevel.PRIVATE)
@@ -45,47 +50,84 @@ public class OutboxEvent extends BaseEntity {
     @Column(length = 500)
     private String failReason;
 
+    // 선점한 노드와 선점 만료 시각 (만료되면 다른 노드가 다시 선점 가능)
+    @Column(length = 100)
+    private String lockedBy;
+
+    private Instant lockedUntil;
+
+    @Column(name = "next_attempt_at")
+    private Instant nextAttemptAt; // 이 시각 이후에만 선점 대상
+
     public static OutboxEvent scheduleCreate(Long subscriptionId, String billingKey) {
+        return create("SUBSCRIPTION", subscriptionId, ScheduleCreatePayload.EVENT_TYPE,
+                new ScheduleCreatePayload(subscriptionId, billingKey));
+    }
+
+    public static OutboxEvent create(String aggregateType, Long aggregateId, String eventType, Object payload) {
         try {
-            var payloadMap = java.util.Map.of(
-                    "subscriptionId", subscriptionId,
-                    "billingKey", billingKey
-            );
-            String payload = objectMapper.writeValueAsString(payloadMap);
             OutboxEvent event = new OutboxEvent();
-            event.aggregateType = "SUBSCRIPTION";
-            event.aggregateId = subscriptionId;
-            event.eventType = "SCHEDULE_CREATE";
-            event.payload = payload;
+            event.aggregateType = aggregateType;
+            event.aggregateId = aggregateId;
+            event.eventType = eventType;
+            event.payload = objectMapper.writeValueAsString(payload);
             event.status = OutboxEventStatus.PENDING;
             event.retryCount = 0;
+            event.nextAttemptAt = Instant.now();
             return event;
         } catch (JsonProcessingException e) {
             throw new IllegalArgumentException("OutboxEvent payload 직렬화 실패", e);
         }
     }
 
-    public String extractBillingKey() {
-        try {
-            JsonNode node = objectMapper.readTree(payload);
-            return node.get("billingKey").asText();
-        } catch (JsonProcessingException e) {
-            throw new IllegalStateException("Outbox payload 파싱 실패", e);
-        }
+    public void claim(String owner, Instant leaseUntil) {
+        this.lockedBy = owner;
+        this.lockedUntil = leaseUntil;
+    }
+
+    public boolean isClaimedBy(String owner) {
+        return status == OutboxEventStatus.PENDING && owner.equals(lockedBy);
     }
 
     public void markAsProcessed() {
         this.status = OutboxEventStatus.PROCESSED;
+        releaseClaim();
     }
 
     public void markAsFailed(String reason) {
         this.status = OutboxEventStatus.FAILED;
         this.failReason = truncate(reason, 500);
+        releaseClaim();
     }
 
-    public void recordRetryFailure(String reason) {
+    public void recordRetryFailure(String reason, Instant nextAttemptAt) {
         this.retryCount++;
         this.failReason = truncate(reason, 500);
+        this.nextAttemptAt = nextAttemptAt;
+        releaseClaim();
+    }
+
+    /**
+     * 같은 aggregate의 앞선 이벤트가 끝나지 않아 재시도 횟수를 늘리지 않고 미룸
+     */
+    public void defer(Instant nextAttemptAt) {
+        this.nextAttemptAt = nextAttemptAt;
+        releaseClaim();
+    }
+
+    /**
+     * FAILED 이벤트를 재시도 횟수를 초기화해 다시 PENDING으로
+     */
+    public void replay() {
+        this.status = OutboxEventStatus.PENDING;
+        this.retryCount = 0;
+        this.nextAttemptAt = Instant.now();
+        releaseClaim();
+    }
+
+    private void releaseClaim() {
+        this.lockedBy = null;
+        this.lockedUntil = null;
     }
 
     private String truncate(String value, int maxLength) {
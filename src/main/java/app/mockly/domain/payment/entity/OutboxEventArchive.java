@@ -0,0 +1,48 @@
+package app.mockly.domain.payment.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+
+/**
+ * 처리 완료(PROCESSED)된 Outbox 이벤트 보관 테이블
+ * 압축 작업이 outbox_event에서 네이티브 쿼리로 옮겨 담으므로 애플리케이션에서 직접 저장하지 않는다.
+ */
+@Entity
+@Table(name = "outbox_event_archive", indexes = {
+        @Index(name = "idx_outbox_event_archive_archived_at", columnList = "archivedAt")
+})
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class OutboxEventArchive {
+
+    @Id
+    private Long id; // 원본 outbox_event.id
+
+    @Column(nullable = false, length = 50)
+    private String aggregateType;
+
+    @Column(nullable = false)
+    private Long aggregateId;
+
+    @Column(nullable = false, length = 50)
+    private String eventType;
+
+    @Column(nullable = false, columnDefinition = "TEXT")
+    private String payload;
+
+    @Column(nullable = false)
+    private int retryCount;
+
+    @Column(nullable = false)
+    private Instant createdAt;
+
+    @Column(nullable = false)
+    private Instant processedAt; // 원본의 마지막 수정 시각
+
+    @Column(nullable = false)
+    private Instant archivedAt;
+}
@@ -0,0 +1,21 @@
+package app.mockly.domain.payment.entity;
+
+import app.mockly.domain.payment.event.OutboxEventCreatedEvent;
+import jakarta.persistence.PostPersist;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+/**
+ * Outbox 이벤트 저장 시 디스패처를 깨우기 위한 이벤트 발행 (커밋 이후 전달)
+ */
+@Component
+@RequiredArgsConstructor
+public class OutboxEventCreatedListener {
+    private final ApplicationEventPublisher eventPublisher;
+
+    @PostPersist
+    public void onCreated(OutboxEvent event) {
+        eventPublisher.publishEvent(new OutboxEventCreatedEvent(event.getId(), event.getEventType()));
+    }
+}
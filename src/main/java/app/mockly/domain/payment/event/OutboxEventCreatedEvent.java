@@ -0,0 +1,4 @@
+package app.mockly.domain.payment.event;
+
+public record OutboxEventCreatedEvent(Long outboxEventId, String eventType) {
+}
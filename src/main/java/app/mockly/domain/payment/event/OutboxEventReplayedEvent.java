@@ -0,0 +1,8 @@
+package app.mockly.domain.payment.event;
+
+/**
+ * @param outboxEventId 단건 재처리한 이벤트 (전체 재처리면 null)
+ * @param count 재처리 대상으로 되돌린 이벤트 수
+ */
+public record OutboxEventReplayedEvent(Long outboxEventId, int count) {
+}
@@ -0,0 +1,11 @@
+package app.mockly.domain.payment.outbox;
+
+/**
+ * 재시도해도 결과가 같은 실패 - 핸들러가 던지면 재시도 없이 바로 FAILED로 기록된다 (수동 재처리 대상)
+ */
+public class NonRetryableOutboxException extends RuntimeException {
+
+    public NonRetryableOutboxException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -0,0 +1,38 @@
+package app.mockly.domain.payment.outbox;
+
+import app.mockly.domain.payment.dto.response.FailedOutboxEventResponse;
+import app.mockly.domain.payment.service.OutboxEventService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * FAILED(dead-letter) 이벤트 조회/재처리 (관리자 전용)
+ * - GET /actuator/outbox : 최근 실패 이벤트
+ * - POST /actuator/outbox {"eventId": 1} : 단건 재처리, eventId 생략 시 전체 재처리
+ */
+@Component
+@Endpoint(id = "outbox")
+@RequiredArgsConstructor
+public class OutboxEndpoint {
+    private final OutboxEventService outboxEventService;
+
+    @ReadOperation
+    public List<FailedOutboxEventResponse> failedEvents() {
+        return outboxEventService.getFailedEvents();
+    }
+
+    @WriteOperation
+    public Map<String, Integer> replay(@Nullable Long eventId) {
+        int replayed = eventId != null
+                ? outboxEventService.replay(eventId)
+                : outboxEventService.replayAllFailed();
+        return Map.of("replayed", replayed);
+    }
+}
@@ -0,0 +1,25 @@
+package app.mockly.domain.payment.outbox;
+
+import app.mockly.domain.payment.entity.OutboxEvent;
+
+/**
+ * eventType별 Outbox 이벤트 처리기
+ * 빈으로 등록하면 {@link OutboxHandlerRegistry}에 자동 등록된다.
+ *
+ * @param <P> payload 타입 (선점 시 한 번만 역직렬화)
+ */
+public interface OutboxHandler<P> {
+
+    String eventType();
+
+    Class<P> payloadType();
+
+    /**
+     * 트랜잭션 밖에서 호출된다 (PG 응답을 기다리는 동안 Outbox 행 잠금과 DB 커넥션을 잡지 않도록).
+     * DB 작업은 핸들러가 짧은 트랜잭션으로 직접 나눠 실행하고, event는 읽기 전용으로만 사용한다.
+     * lease 동안에는 다른 노드가 같은 이벤트를 실행하지 않지만, lease가 만료되면 다시 실행될 수 있다.
+     * 정상 반환 시 PROCESSED 처리되고, 예외를 던지면 재시도 대상이 된다.
+     * 재시도해도 소용없는 실패는 {@link NonRetryableOutboxException}을 던지면 바로 FAILED로 기록된다.
+     */
+    void handle(OutboxEvent event, P payload);
+}
@@ -0,0 +1,37 @@
+package app.mockly.domain.payment.outbox;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+@Component
+public class OutboxHandlerRegistry {
+    private final Map<String, OutboxHandler<?>> handlers;
+    private final ObjectMapper objectMapper;
+
+    public OutboxHandlerRegistry(List<OutboxHandler<?>> handlers, ObjectMapper objectMapper) {
+        this.handlers = handlers.stream()
+                .collect(Collectors.toUnmodifiableMap(OutboxHandler::eventType, Function.identity(), (a, b) -> {
+                    throw new IllegalStateException("중복된 Outbox 핸들러: " + a.eventType());
+                }));
+        this.objectMapper = objectMapper;
+    }
+
+    public Optional<OutboxHandler<?>> find(String eventType) {
+        return Optional.ofNullable(handlers.get(eventType));
+    }
+
+    public <P> P readPayload(OutboxHandler<P> handler, String payload) {
+        try {
+            return objectMapper.readValue(payload, handler.payloadType());
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Outbox payload 파싱 실패", e);
+        }
+    }
+}
@@ -0,0 +1,35 @@
+package app.mockly.domain.payment.outbox;
+
+import app.mockly.global.config.OutboxProperties;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.HealthIndicator;
+import org.springframework.boot.actuate.health.Status;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * 가장 오래된 대기 이벤트가 기준 시간을 넘기면 DEGRADED (HTTP 200 유지, 트래픽에서 제외하지 않음)
+ */
+@Component
+@RequiredArgsConstructor
+public class OutboxHealthIndicator implements HealthIndicator {
+    public static final Status DEGRADED = new Status("DEGRADED", "Outbox 처리가 지연되고 있습니다");
+
+    private final OutboxMetrics outboxMetrics;
+    private final OutboxProperties properties;
+
+    @Override
+    public Health health() {
+        Duration oldestAge = outboxMetrics.oldestPendingAge();
+        Health.Builder builder = oldestAge.compareTo(properties.getBacklogAgeThreshold()) > 0
+                ? Health.status(DEGRADED)
+                : Health.up();
+        return builder
+                .withDetail("pending", outboxMetrics.pendingCount())
+                .withDetail("oldestPendingAgeSeconds", oldestAge.toSeconds())
+                .withDetail("thresholdSeconds", properties.getBacklogAgeThreshold().toSeconds())
+                .build();
+    }
+}
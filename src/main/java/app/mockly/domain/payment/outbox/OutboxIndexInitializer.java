@@ -0,0 +1,47 @@
+package app.mockly.domain.payment.outbox;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+
+/**
+ * 디스패처 조회용 부분 인덱스 생성 (PostgreSQL 전용, ddl-auto로는 WHERE 절 인덱스를 만들 수 없음)
+ * PENDING 행만 인덱싱하므로 처리 완료 이벤트가 쌓여도 크기가 대기 이벤트 수에 비례한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class OutboxIndexInitializer {
+    private static final String CREATE_INDEX_SQL = """
+            CREATE INDEX IF NOT EXISTS idx_outbox_event_pending_next_attempt
+                ON outbox_event (status, next_attempt_at)
+                WHERE status = 'PENDING'
+            """;
+
+    private final DataSource dataSource;
+    private final JdbcTemplate jdbcTemplate;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void createIndexes() {
+        try (Connection connection = dataSource.getConnection()) {
+            if (!"PostgreSQL".equals(connection.getMetaData().getDatabaseProductName())) {
+                return;
+            }
+        } catch (Exception e) {
+            log.warn("DB 종류 확인 실패, Outbox 인덱스 생성 생략", e);
+            return;
+        }
+
+        try {
+            jdbcTemplate.execute(CREATE_INDEX_SQL);
+        } catch (Exception e) {
+            log.warn("Outbox 부분 인덱스 생성 실패", e);
+        }
+    }
+}
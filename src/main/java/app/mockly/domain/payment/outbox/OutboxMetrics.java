@@ -0,0 +1,103 @@
+package app.mockly.domain.payment.outbox;
+
+import app.mockly.domain.payment.entity.OutboxEventStatus;
+import app.mockly.domain.payment.repository.OutboxEventRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Outbox 처리 지표
+ * - outbox.pending / outbox.failed / outbox.pending.oldest.age: 주기적으로 DB에서 갱신한 값 (scrape마다 조회하지 않음)
+ * - outbox.events{event_type, result=processed|retried|failed|deferred}
+ * - outbox.handler{event_type, outcome=success|error}: 핸들러 실행 시간
+ */
+@Slf4j
+@Component
+public class OutboxMetrics {
+    public static final String RESULT_PROCESSED = "processed";
+    public static final String RESULT_RETRIED = "retried";
+    public static final String RESULT_FAILED = "failed";
+    public static final String RESULT_DEFERRED = "deferred"; // 같은 aggregate의 앞선 이벤트를 기다림
+
+    private static final double[] PERCENTILES = {0.5, 0.95, 0.99};
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final MeterRegistry meterRegistry;
+
+    private final AtomicLong pendingCount = new AtomicLong();
+    private final AtomicLong failedCount = new AtomicLong();
+    private final AtomicReference<Instant> oldestPendingCreatedAt = new AtomicReference<>();
+
+    public OutboxMetrics(OutboxEventRepository outboxEventRepository, MeterRegistry meterRegistry) {
+        this.outboxEventRepository = outboxEventRepository;
+        this.meterRegistry = meterRegistry;
+
+        Gauge.builder("outbox.pending", pendingCount, AtomicLong::get)
+                .description("처리 대기 중인 이벤트 수")
+                .register(meterRegistry);
+        Gauge.builder("outbox.failed", failedCount, AtomicLong::get)
+                .description("재시도를 모두 소진해 수동 재처리를 기다리는 이벤트 수")
+                .register(meterRegistry);
+        Gauge.builder("outbox.pending.oldest.age", this, metrics -> metrics.oldestPendingAge().toMillis() / 1000.0)
+                .description("가장 오래된 대기 이벤트의 경과 시간")
+                .baseUnit("seconds")
+                .register(meterRegistry);
+    }
+
+    public void bindInFlight(AtomicInteger inFlight) {
+        Gauge.builder("outbox.in_flight", inFlight, AtomicInteger::get)
+                .description("선점 후 처리 중이거나 워커를 기다리는 이벤트 수")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "#{@outboxProperties.metricsRefreshInterval.toMillis()}")
+    public void refresh() {
+        try {
+            pendingCount.set(outboxEventRepository.countByStatus(OutboxEventStatus.PENDING));
+            failedCount.set(outboxEventRepository.countByStatus(OutboxEventStatus.FAILED));
+            oldestPendingCreatedAt.set(outboxEventRepository.findOldestCreatedAt(OutboxEventStatus.PENDING).orElse(null));
+        } catch (Exception e) {
+            log.warn("Outbox 지표 갱신 실패", e);
+        }
+    }
+
+    public long pendingCount() {
+        return pendingCount.get();
+    }
+
+    public Duration oldestPendingAge() {
+        Instant oldest = oldestPendingCreatedAt.get();
+        return oldest == null ? Duration.ZERO : Duration.between(oldest, Instant.now());
+    }
+
+    public Timer.Sample startHandler() {
+        return Timer.start(meterRegistry);
+    }
+
+    public void recordHandler(Timer.Sample sample, String eventType, boolean success) {
+        sample.stop(Timer.builder("outbox.handler")
+                .tag("event_type", eventType)
+                .tag("outcome", success ? "success" : "error")
+                .publishPercentiles(PERCENTILES)
+                .register(meterRegistry));
+    }
+
+    public void recordResult(String eventType, String result) {
+        Counter.builder("outbox.events")
+                .tag("event_type", eventType)
+                .tag("result", result)
+                .register(meterRegistry)
+                .increment();
+    }
+}
@@ -0,0 +1,40 @@
+package app.mockly.domain.payment.outbox;
+
+import app.mockly.domain.payment.entity.OutboxEvent;
+import app.mockly.domain.product.service.SubscriptionService;
+import app.mockly.global.common.ApiStatusCode;
+import app.mockly.global.exception.BusinessException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ScheduleCreateHandler implements OutboxHandler<ScheduleCreatePayload> {
+    private final SubscriptionService subscriptionService;
+
+    @Override
+    public String eventType() {
+        return ScheduleCreatePayload.EVENT_TYPE;
+    }
+
+    @Override
+    public Class<ScheduleCreatePayload> payloadType() {
+        return ScheduleCreatePayload.class;
+    }
+
+    @Override
+    public void handle(OutboxEvent event, ScheduleCreatePayload payload) {
+        try {
+            subscriptionService.createFirstPaymentScheduleIfAbsent(payload.subscriptionId(), payload.billingKey());
+        } catch (BusinessException e) {
+            if (e.getStatusCode() != ApiStatusCode.DUPLICATE_RESOURCE) {
+                throw e;
+            }
+            // 재시도해도 같은 결과이므로 바로 실패 처리
+            log.warn("PortOne에 스케줄 존재하나 DB에 scheduleId 없음 - subscriptionId: {}", payload.subscriptionId());
+            throw new NonRetryableOutboxException("PAYMENT_SCHEDULE_ALREADY_EXISTS - 수동 확인 필요", e);
+        }
+    }
+}
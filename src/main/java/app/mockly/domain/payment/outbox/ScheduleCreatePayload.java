@@ -0,0 +1,8 @@
+package app.mockly.domain.payment.outbox;
+
+public record ScheduleCreatePayload(
+        Long subscriptionId,
+        String billingKey
+) {
+    public static final String EVENT_TYPE = "SCHEDULE_CREATE";
+}
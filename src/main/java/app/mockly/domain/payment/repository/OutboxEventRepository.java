@@ -2,14 +2,94 @@ package app.mockly.domain.payment.repository;
 
 import app.mockly.domain.payment.entity.OutboxEvent;
 import app.mockly.domain.payment.entity.OutboxEventStatus;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 
+import java.time.Instant;
 import java.util.List;
 import java.util.Optional;
 
 public interface OutboxEventRepository extends JpaRepository<OutboxEvent, Long> {
 
-    List<OutboxEvent> findTop20ByStatusOrderByCreatedAtAsc(OutboxEventStatus status);
+    /**
+     * 재시도 시각이 된 선점 가능한 이벤트 조회 (SELECT ... FOR UPDATE SKIP LOCKED)
+     * 다른 노드가 선점 중인 행은 건너뛴다.
+     * 같은 aggregate의 앞선 이벤트가 재시도 대기 중이거나 다른 노드에서 처리 중이면 뒤 이벤트는 선점하지 않는다.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    @Query("SELECT e FROM OutboxEvent e " +
+            "WHERE e.status = :status " +
+            "AND (e.nextAttemptAt IS NULL OR e.nextAttemptAt <= :now) " +
+            "AND (e.lockedUntil IS NULL OR e.lockedUntil < :now) " +
+            "AND NOT EXISTS (SELECT 1 FROM OutboxEvent p " +
+            "    WHERE p.aggregateType = e.aggregateType AND p.aggregateId = e.aggregateId " +
+            "    AND p.status = :status AND p.id < e.id " +
+            "    AND (p.nextAttemptAt > :now OR p.lockedUntil >= :now)) " +
+            "ORDER BY e.createdAt ASC, e.id ASC")
+    List<OutboxEvent> findClaimable(@Param("status") OutboxEventStatus status,
+                                    @Param("now") Instant now,
+                                    Pageable pageable);
 
-    Optional<OutboxEvent> findByAggregateIdAndEventTypeAndStatus(Long aggregateId, String eventType, OutboxEventStatus status);
+    /**
+     * 같은 aggregate에서 아직 끝나지 않은 앞선 이벤트 (FAILED는 수동 재처리 대상이라 순서를 막지 않음)
+     */
+    @Query("SELECT e FROM OutboxEvent e " +
+            "WHERE e.aggregateType = :aggregateType AND e.aggregateId = :aggregateId " +
+            "AND e.status = app.mockly.domain.payment.entity.OutboxEventStatus.PENDING AND e.id < :id " +
+            "ORDER BY e.id ASC")
+    List<OutboxEvent> findEarlierPending(@Param("aggregateType") String aggregateType,
+                                         @Param("aggregateId") Long aggregateId,
+                                         @Param("id") Long id,
+                                         Pageable pageable);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT e FROM OutboxEvent e WHERE e.id = :id")
+    Optional<OutboxEvent> findByIdForUpdate(@Param("id") Long id);
+
+    long countByStatus(OutboxEventStatus status);
+
+    @Query("SELECT MIN(e.createdAt) FROM OutboxEvent e WHERE e.status = :status")
+    Optional<Instant> findOldestCreatedAt(@Param("status") OutboxEventStatus status);
+
+    List<OutboxEvent> findByStatusOrderByUpdatedAtDesc(OutboxEventStatus status, Pageable pageable);
+
+    @Modifying
+    @Query("UPDATE OutboxEvent e " +
+            "SET e.status = app.mockly.domain.payment.entity.OutboxEventStatus.PENDING, " +
+            "e.retryCount = 0, e.nextAttemptAt = :now, e.lockedBy = NULL, e.lockedUntil = NULL " +
+            "WHERE e.status = app.mockly.domain.payment.entity.OutboxEventStatus.FAILED")
+    int replayAllFailed(@Param("now") Instant now);
+
+    /**
+     * 보관 대상 조회: 마지막 수정 후 일정 시간이 지난 PROCESSED 이벤트 (id 순 keyset)
+     */
+    @Query("SELECT e.id FROM OutboxEvent e " +
+            "WHERE e.status = app.mockly.domain.payment.entity.OutboxEventStatus.PROCESSED " +
+            "AND e.updatedAt < :before AND e.id > :afterId " +
+            "ORDER BY e.id ASC")
+    List<Long> findArchivableIds(@Param("before") Instant before,
+                                 @Param("afterId") Long afterId,
+                                 Pageable pageable);
+
+    @Modifying
+    @Query(nativeQuery = true, value = """
+            INSERT INTO outbox_event_archive
+                (id, aggregate_type, aggregate_id, event_type, payload, retry_count, created_at, processed_at, archived_at)
+            SELECT id, aggregate_type, aggregate_id, event_type, payload, retry_count, created_at, updated_at, :archivedAt
+            FROM outbox_event
+            WHERE id IN (:ids) AND status = 'PROCESSED'
+            """)
+    int copyToArchive(@Param("ids") List<Long> ids, @Param("archivedAt") Instant archivedAt);
+
+    @Modifying
+    @Query(nativeQuery = true, value = "DELETE FROM outbox_event WHERE id IN (:ids) AND status = 'PROCESSED'")
+    int deleteProcessedByIds(@Param("ids") List<Long> ids);
 }
@@ -0,0 +1,93 @@
+package app.mockly.domain.payment.scheduler;
+
+import app.mockly.domain.payment.repository.OutboxEventRepository;
+import app.mockly.global.config.OutboxProperties;
+import app.mockly.global.scheduling.SchedulerLock;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * 처리 완료된 Outbox 이벤트를 outbox_event_archive로 옮기는 작업
+ * - outbox_event에는 대기/실패 이벤트와 최근 처리분만 남아 디스패처 조회 비용이 이력 크기와 무관해진다.
+ * - chunk 단위로 복사 + 삭제를 각각의 트랜잭션에서 커밋, 중간에 실패해도 앞선 chunk는 유지
+ */
+@Slf4j
+@Component
+public class OutboxCompactionJob {
+    static final String JOB_NAME = "outbox-compaction";
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final OutboxProperties properties;
+    private final SchedulerLock schedulerLock;
+    private final TransactionTemplate transactionTemplate;
+
+    public record CompactionResult(int rowsMoved, Duration elapsed) {
+    }
+
+    public OutboxCompactionJob(OutboxEventRepository outboxEventRepository,
+                               OutboxProperties properties,
+                               SchedulerLock schedulerLock,
+                               PlatformTransactionManager transactionManager) {
+        this.outboxEventRepository = outboxEventRepository;
+        this.properties = properties;
+        this.schedulerLock = schedulerLock;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    @Scheduled(cron = "#{@outboxProperties.compactionCron}")
+    public void compactProcessedEvents() {
+        try {
+            schedulerLock.runExclusively(JOB_NAME, SchedulerLock.OnLockError.SKIP,
+                    lease -> compact(Instant.now().minus(properties.getArchiveAfter())));
+        } catch (Exception e) {
+            log.error("Outbox 보관 작업 실패", e);
+        }
+    }
+
+    public CompactionResult compact(Instant processedBefore) {
+        long startedAt = System.nanoTime();
+        int moved = 0;
+        long lastId = 0L;
+
+        while (true) {
+            List<Long> ids = outboxEventRepository.findArchivableIds(
+                    processedBefore, lastId, PageRequest.of(0, properties.getCompactionChunkSize()));
+            if (ids.isEmpty()) {
+                break;
+            }
+            moved += moveChunk(ids);
+            lastId = ids.get(ids.size() - 1);
+            if (ids.size() < properties.getCompactionChunkSize()) {
+                break;
+            }
+        }
+
+        CompactionResult result = new CompactionResult(moved, Duration.ofNanos(System.nanoTime() - startedAt));
+        log.info("Outbox 보관 작업 완료 - 이동: {}건, 소요: {}ms", result.rowsMoved(), result.elapsed().toMillis());
+        return result;
+    }
+
+    private int moveChunk(List<Long> ids) {
+        Integer moved = transactionTemplate.execute(status -> {
+            Instant archivedAt = Instant.now();
+            int copied = outboxEventRepository.copyToArchive(ids, archivedAt);
+            int deleted = outboxEventRepository.deleteProcessedByIds(ids);
+            if (copied != deleted) {
+                // 복사와 삭제 사이에 상태가 바뀐 행이 있으면 chunk 전체를 되돌리고 다음 실행에 맡긴다
+                status.setRollbackOnly();
+                log.warn("Outbox 보관 chunk 불일치, 롤백 - 복사: {}건, 삭제: {}건", copied, deleted);
+                return 0;
+            }
+            return deleted;
+        });
+        return moved == null ? 0 : moved;
+    }
+}
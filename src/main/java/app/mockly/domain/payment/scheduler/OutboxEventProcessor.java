@@ -2,46 +2,392 @@ package app.mockly.domain.payment.scheduler;
 
 import app.mockly.domain.payment.entity.OutboxEvent;
 import app.mockly.domain.payment.entity.OutboxEventStatus;
+import app.mockly.domain.payment.event.OutboxEventCreatedEvent;
+import app.mockly.domain.payment.event.OutboxEventReplayedEvent;
+import app.mockly.domain.payment.outbox.NonRetryableOutboxException;
+import app.mockly.domain.payment.outbox.OutboxHandler;
+import app.mockly.domain.payment.outbox.OutboxHandlerRegistry;
+import app.mockly.domain.payment.outbox.OutboxMetrics;
 import app.mockly.domain.payment.repository.OutboxEventRepository;
-import app.mockly.domain.product.service.SubscriptionService;
-import lombok.RequiredArgsConstructor;
+import app.mockly.global.config.OutboxProperties;
+import app.mockly.global.scheduling.SchedulerLock;
+import io.micrometer.core.instrument.Timer;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.TaskScheduler;
 import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import org.springframework.stereotype.Component;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.time.Instant;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Queue;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
 
+/**
+ * Outbox 이벤트 디스패처
+ * - 선점: SKIP LOCKED로 조회 후 lockedBy/lockedUntil 기록 (짧은 트랜잭션), 여러 노드가 동시에 실행해도 중복 선점 없음
+ *   payload는 이때 핸들러의 타입으로 한 번만 역직렬화
+ * - 처리: 워커 풀에서 이벤트마다 1) 행 잠금 + 선점자/순서 확인 (짧은 트랜잭션) → 2) 핸들러 실행 (트랜잭션 밖, lease로 배타 실행)
+ *   → 3) 행 잠금 + 선점자 확인 후 결과 기록 (짧은 트랜잭션). PG 응답을 기다리는 동안 행 잠금과 커넥션을 잡지 않는다.
+ *   핸들러별 동시 처리 수를 넘는 이벤트는 대기열에서 기다린다
+ * - 순서: 이벤트는 (aggregateType, aggregateId) 해시로 lane에 배정되고, lane마다 한 번에 하나씩 선점 순서대로 처리
+ *   서로 다른 구독은 병렬로, 같은 구독의 이벤트는 순서대로 처리된다.
+ *   다른 노드가 같은 aggregate의 앞선 이벤트를 처리 중이면 뒤 이벤트는 미뤄진다 (선점 조회 + 처리 직전 확인)
+ * - 처리 도중 노드가 죽으면 lease 만료 후 다른 노드가 다시 선점
+ * - 이벤트 저장 트랜잭션이 커밋되면 즉시 깨어나 선점, 주기 폴링은 다른 노드에서 저장된 이벤트와 재시도를 위한 안전망
+ *   주기 폴링은 클러스터에서 잠금을 얻은 노드 하나만 실행 (잠금을 확인할 수 없으면 SKIP LOCKED에 맡기고 실행)
+ */
 @Slf4j
 @Component
-@RequiredArgsConstructor
 public class OutboxEventProcessor {
-    private static final int MAX_RETRY_COUNT = 5;
+    static final String POLL_JOB_NAME = "outbox-poll";
 
     private final OutboxEventRepository outboxEventRepository;
-    private final SubscriptionService subscriptionService;
+    private final OutboxHandlerRegistry handlerRegistry;
+    private final OutboxProperties properties;
+    private final OutboxMetrics outboxMetrics;
+    private final ThreadPoolTaskExecutor outboxExecutor;
+    private final TaskScheduler taskScheduler;
+    private final SchedulerLock schedulerLock;
+    private final TransactionTemplate transactionTemplate;
 
-    @Scheduled(fixedDelay = 60000)
-    @Transactional
-    public void processOutboxEvents() {
-        List<OutboxEvent> events = outboxEventRepository.findTop20ByStatusOrderByCreatedAtAsc(OutboxEventStatus.PENDING);
+    private final String owner = resolveOwner();
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicBoolean wakeUpRequested = new AtomicBoolean();
+    private final ReentrantLock dispatchLock = new ReentrantLock();
+    private final Map<String, HandlerSlot> handlerSlots = new ConcurrentHashMap<>();
+    private final Lane[] lanes;
+
+    private record ClaimedEvent(Long id, Lane lane, OutboxHandler<?> handler, Object payload) {
+    }
+
+    private record HandlerSlot(Semaphore permits, Queue<ClaimedEvent> waiting) {
+    }
+
+    /**
+     * @param event 핸들러를 실행할 이벤트 (실행하지 않으면 null)
+     * @param result 실행하지 않은 경우의 처리 결과 (집계하지 않으면 null)
+     */
+    private record Attempt(OutboxEvent event, String result) {
+    }
+
+    /**
+     * 같은 aggregate의 이벤트를 순서대로 하나씩 흘려보내는 대기열 (busy 동안 다음 이벤트는 핸들러로 넘기지 않음)
+     */
+    private record Lane(Queue<ClaimedEvent> waiting, AtomicBoolean busy) {
+    }
+
+    public OutboxEventProcessor(OutboxEventRepository outboxEventRepository,
+                                OutboxHandlerRegistry handlerRegistry,
+                                OutboxProperties properties,
+                                OutboxMetrics outboxMetrics,
+                                ThreadPoolTaskExecutor outboxExecutor,
+                                TaskScheduler taskScheduler,
+                                SchedulerLock schedulerLock,
+                                PlatformTransactionManager transactionManager) {
+        this.outboxEventRepository = outboxEventRepository;
+        this.handlerRegistry = handlerRegistry;
+        this.properties = properties;
+        this.outboxMetrics = outboxMetrics;
+        this.outboxExecutor = outboxExecutor;
+        this.taskScheduler = taskScheduler;
+        this.schedulerLock = schedulerLock;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.lanes = new Lane[properties.getLaneCount()];
+        for (int i = 0; i < lanes.length; i++) {
+            lanes[i] = new Lane(new ConcurrentLinkedQueue<>(), new AtomicBoolean());
+        }
+        outboxMetrics.bindInFlight(inFlight);
+    }
+
+    /**
+     * 이벤트를 저장한 트랜잭션이 커밋된 직후 디스패처를 깨운다.
+     * 연달아 커밋되어도 아직 처리되지 않은 깨우기 요청이 있으면 합쳐서 한 번만 실행
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onOutboxEventCreated(OutboxEventCreatedEvent event) {
+        wakeUp();
+    }
+
+    /**
+     * 실패 이벤트를 재처리 대상으로 되돌린 트랜잭션이 커밋된 직후에도 같은 방식으로 깨운다.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onOutboxEventReplayed(OutboxEventReplayedEvent event) {
+        wakeUp();
+    }
+
+    private void wakeUp() {
+        if (wakeUpRequested.compareAndSet(false, true)) {
+            taskScheduler.schedule(this::processOutboxEvents, Instant.now());
+        }
+    }
 
-        for (OutboxEvent event : events) {
+    @Scheduled(fixedDelayString = "#{@outboxProperties.pollInterval.toMillis()}")
+    public void pollOutboxEvents() {
+        schedulerLock.runExclusively(POLL_JOB_NAME, SchedulerLock.OnLockError.RUN, lease -> processOutboxEvents());
+    }
+
+    public void processOutboxEvents() {
+        // 이미 선점 중이면 그 실행이 끝난 뒤 깨우기 요청을 확인하고 한 번 더 선점
+        while (dispatchLock.tryLock()) {
             try {
-                if ("SCHEDULE_CREATE".equals(event.getEventType())) {
-                    subscriptionService.processScheduleCreation(event.getAggregateId());
+                wakeUpRequested.set(false);
+                dispatch();
+            } finally {
+                dispatchLock.unlock();
+            }
+            if (!wakeUpRequested.get()) {
+                return;
+            }
+        }
+    }
+
+    private void dispatch() {
+        int capacity = properties.getWorkerThreads() + properties.getQueueCapacity() - inFlight.get();
+        int limit = Math.min(properties.getBatchSize(), capacity);
+        if (limit <= 0) {
+            return;
+        }
+
+        for (ClaimedEvent event : claim(limit)) {
+            inFlight.incrementAndGet();
+            event.lane().waiting().add(event);
+            advance(event.lane());
+        }
+    }
+
+    private List<ClaimedEvent> claim(int limit) {
+        return transactionTemplate.execute(status -> {
+            Instant now = Instant.now();
+            List<OutboxEvent> events = outboxEventRepository.findClaimable(
+                    OutboxEventStatus.PENDING, now, PageRequest.of(0, limit));
+            Instant leaseUntil = now.plus(properties.getLease());
+
+            List<ClaimedEvent> claimed = new ArrayList<>(events.size());
+            for (OutboxEvent event : events) {
+                OutboxHandler<?> handler = handlerRegistry.find(event.getEventType()).orElse(null);
+                if (handler == null) {
+                    event.markAsFailed("지원하지 않는 이벤트 타입: " + event.getEventType());
+                    outboxMetrics.recordResult(event.getEventType(), OutboxMetrics.RESULT_FAILED);
+                    continue;
                 }
-            } catch (Exception e) {
-                event.recordRetryFailure(e.getMessage());
-                if (event.getRetryCount() >= MAX_RETRY_COUNT) {
+                try {
+                    Object payload = handlerRegistry.readPayload(handler, event.getPayload());
+                    event.claim(owner, leaseUntil);
+                    claimed.add(new ClaimedEvent(event.getId(), laneOf(event), handler, payload));
+                } catch (IllegalStateException e) {
                     event.markAsFailed(e.getMessage());
-                    log.error("Outbox 이벤트 최종 실패 - eventId: {}, aggregateId: {}",
-                            event.getId(), event.getAggregateId(), e);
-                } else {
-                    log.warn("Outbox 이벤트 재시도 실패 ({}/{}) - eventId: {}, aggregateId: {}",
-                            event.getRetryCount(), MAX_RETRY_COUNT, event.getId(), event.getAggregateId(), e);
+                    outboxMetrics.recordResult(event.getEventType(), OutboxMetrics.RESULT_FAILED);
+                    log.error("Outbox payload 파싱 실패 - eventId: {}", event.getId(), e);
+                }
+            }
+            return claimed;
+        });
+    }
+
+    private Lane laneOf(OutboxEvent event) {
+        int hash = Objects.hash(event.getAggregateType(), event.getAggregateId());
+        return lanes[Math.floorMod(hash, lanes.length)];
+    }
+
+    /**
+     * lane에서 처리 중인 이벤트가 없으면 다음 이벤트를 핸들러 대기열로 넘긴다. 처리가 끝나면 다시 호출된다.
+     */
+    private void advance(Lane lane) {
+        while (!lane.waiting().isEmpty() && lane.busy().compareAndSet(false, true)) {
+            ClaimedEvent event = lane.waiting().poll();
+            if (event == null) {
+                lane.busy().set(false);
+                continue;
+            }
+            HandlerSlot slot = handlerSlots.computeIfAbsent(event.handler().eventType(), eventType ->
+                    new HandlerSlot(new Semaphore(properties.concurrencyOf(eventType)), new ConcurrentLinkedQueue<>()));
+            slot.waiting().add(event);
+            drain(slot);
+            return;
+        }
+    }
+
+    /**
+     * 핸들러의 동시 처리 수 안에서 대기 중인 이벤트를 워커 풀에 제출
+     */
+    private void drain(HandlerSlot slot) {
+        while (!slot.waiting().isEmpty() && slot.permits().tryAcquire()) {
+            ClaimedEvent event = slot.waiting().poll();
+            if (event == null) {
+                slot.permits().release();
+                return;
+            }
+            try {
+                outboxExecutor.execute(() -> {
+                    try {
+                        process(event);
+                    } finally {
+                        inFlight.decrementAndGet();
+                        slot.permits().release();
+                        event.lane().busy().set(false);
+                        advance(event.lane());
+                        drain(slot);
+                    }
+                });
+            } catch (RejectedExecutionException e) {
+                // 선점은 lease 만료 후 다시 가져감, 순서를 지키기 위해 같은 lane의 뒤 이벤트도 함께 내려놓는다
+                inFlight.decrementAndGet();
+                slot.permits().release();
+                int dropped = abandon(event.lane());
+                log.warn("Outbox 워커 대기열 초과 - eventId: {}, 함께 반납한 이벤트: {}건", event.id(), dropped);
+                return;
+            }
+        }
+    }
+
+    private int abandon(Lane lane) {
+        int dropped = 0;
+        while (lane.waiting().poll() != null) {
+            inFlight.decrementAndGet();
+            dropped++;
+        }
+        lane.busy().set(false);
+        return dropped;
+    }
+
+    private void process(ClaimedEvent claimed) {
+        String eventType = claimed.handler().eventType();
+        String result;
+        try {
+            Attempt attempt = transactionTemplate.execute(status -> begin(claimed.id()));
+            if (attempt.event() == null) {
+                result = attempt.result();
+            } else {
+                Timer.Sample sample = outboxMetrics.startHandler();
+                try {
+                    invoke(claimed.handler(), attempt.event(), claimed.payload());
+                    outboxMetrics.recordHandler(sample, eventType, true);
+                } catch (RuntimeException e) {
+                    outboxMetrics.recordHandler(sample, eventType, false);
+                    throw e;
                 }
+                result = transactionTemplate.execute(status -> complete(claimed.id()));
             }
+        } catch (Exception e) {
+            result = recordFailure(claimed.id(), e);
+        }
+        if (result != null) {
+            outboxMetrics.recordResult(eventType, result);
+        }
+    }
+
+    /**
+     * 핸들러 실행 전 확인: 아직 이 노드가 선점 중이고, 같은 aggregate의 앞선 이벤트가 끝났는지
+     * 실행할 수 없으면 event 없이 결과만 (이미 처리되었거나 다른 노드가 가져갔으면 결과도 null)
+     */
+    private Attempt begin(Long eventId) {
+        OutboxEvent event = outboxEventRepository.findByIdForUpdate(eventId).orElse(null);
+        if (event == null || !event.isClaimedBy(owner)) {
+            return new Attempt(null, null); // 이미 처리되었거나 lease가 만료되어 다른 노드가 가져감
+        }
+        OutboxEvent earlier = outboxEventRepository.findEarlierPending(
+                event.getAggregateType(), event.getAggregateId(), event.getId(), PageRequest.of(0, 1))
+                .stream().findFirst().orElse(null);
+        if (earlier != null) {
+            event.defer(deferUntil(earlier));
+            log.debug("앞선 이벤트 처리 전이라 미룸 - eventId: {}, 앞선 eventId: {}", event.getId(), earlier.getId());
+            return new Attempt(null, OutboxMetrics.RESULT_DEFERRED);
+        }
+        return new Attempt(event, null);
+    }
+
+    private String complete(Long eventId) {
+        OutboxEvent event = outboxEventRepository.findByIdForUpdate(eventId).orElse(null);
+        if (event == null || !event.isClaimedBy(owner)) {
+            log.warn("핸들러 실행 중 lease 만료 - eventId: {}, 다른 노드에서 다시 실행될 수 있음", eventId);
+            return null;
+        }
+        event.markAsProcessed();
+        return OutboxMetrics.RESULT_PROCESSED;
+    }
+
+    /**
+     * 앞선 이벤트가 재시도 대기 중이면 그 이후로, 다른 노드가 처리 중이면 잠시 뒤로
+     */
+    private Instant deferUntil(OutboxEvent earlier) {
+        Instant retryAt = Instant.now().plus(properties.getOrderingDeferDelay());
+        Instant earlierAttemptAt = earlier.getNextAttemptAt();
+        return earlierAttemptAt != null && earlierAttemptAt.isAfter(retryAt) ? earlierAttemptAt : retryAt;
+    }
+
+    private static <P> void invoke(OutboxHandler<P> handler, OutboxEvent event, Object payload) {
+        handler.handle(event, handler.payloadType().cast(payload));
+    }
+
+    /**
+     * 실패 기록 후 결과 반환 (재시도 예정이면 retried, 최종 실패면 failed)
+     * 재시도할 수 없는 실패는 재시도 횟수와 관계없이 바로 FAILED
+     */
+    private String recordFailure(Long eventId, Exception e) {
+        return transactionTemplate.execute(status -> {
+            OutboxEvent event = outboxEventRepository.findByIdForUpdate(eventId).orElse(null);
+            if (event == null || !event.isClaimedBy(owner)) {
+                return null;
+            }
+            if (e instanceof NonRetryableOutboxException) {
+                event.markAsFailed(e.getMessage());
+                log.error("Outbox 이벤트 재시도 불가 실패 - eventId: {}, aggregateId: {}",
+                        event.getId(), event.getAggregateId(), e);
+                return OutboxMetrics.RESULT_FAILED;
+            }
+            event.recordRetryFailure(e.getMessage(), nextAttemptAt(event.getRetryCount() + 1));
+            if (event.getRetryCount() >= properties.getMaxRetryCount()) {
+                event.markAsFailed(e.getMessage());
+                log.error("Outbox 이벤트 최종 실패 - eventId: {}, aggregateId: {}",
+                        event.getId(), event.getAggregateId(), e);
+            } else {
+                log.warn("Outbox 이벤트 재시도 실패 ({}/{}) - eventId: {}, aggregateId: {}",
+                        event.getRetryCount(), properties.getMaxRetryCount(), event.getId(), event.getAggregateId(), e);
+            }
+            return event.getStatus() == OutboxEventStatus.FAILED
+                    ? OutboxMetrics.RESULT_FAILED
+                    : OutboxMetrics.RESULT_RETRIED;
+        });
+    }
+
+    /**
+     * 지수 백오프 + jitter: base * 2^(n-1)를 상한으로 절반~전체 구간에서 무작위
+     * 여러 이벤트가 같은 장애로 실패해도 재시도 시각이 흩어진다.
+     */
+    private Instant nextAttemptAt(int attempt) {
+        long baseMillis = properties.getRetryBaseDelay().toMillis();
+        long maxMillis = properties.getRetryMaxDelay().toMillis();
+        long delay = Math.min(maxMillis, baseMillis << Math.min(attempt - 1, 30));
+        long jittered = delay / 2 + ThreadLocalRandom.current().nextLong(delay / 2 + 1);
+        return Instant.now().plusMillis(jittered);
+    }
+
+    private static String resolveOwner() {
+        String host;
+        try {
+            host = InetAddress.getLocalHost().getHostName();
+        } catch (UnknownHostException e) {
+            host = "unknown";
         }
+        return host + "-" + UUID.randomUUID().toString().substring(0, 8);
     }
 }
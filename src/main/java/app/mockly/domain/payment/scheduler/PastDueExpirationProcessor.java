@@ -1,57 +1,300 @@
 package app.mockly.domain.payment.scheduler;
 
+import app.mockly.domain.payment.client.PortOneCallLimiter;
 import app.mockly.domain.payment.client.PortOneService;
+import app.mockly.domain.payment.entity.JobCheckpoint;
+import app.mockly.domain.payment.repository.JobCheckpointRepository;
 import app.mockly.domain.product.entity.Subscription;
 import app.mockly.domain.product.entity.SubscriptionStatus;
 import app.mockly.domain.product.repository.SubscriptionRepository;
-import lombok.RequiredArgsConstructor;
+import app.mockly.global.common.ApiStatusCode;
+import app.mockly.global.config.PastDueExpirationProperties;
+import app.mockly.global.exception.BusinessException;
+import app.mockly.global.scheduling.SchedulerLease;
+import app.mockly.global.scheduling.SchedulerLock;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.time.Instant;
-import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
+/**
+ * 유예 기간이 지난 PAST_DUE 구독 만료
+ * - id 순 keyset으로 chunk를 조회하고, chunk가 끝날 때마다 진행 위치(JobCheckpoint)를 커밋
+ *   실행 도중 노드가 죽으면 다음 실행이 같은 기준 시각으로 마지막 chunk 이후부터 이어서 처리
+ * - chunk 안의 결제 예약은 revokePaymentSchedules로 묶어서 취소, PortOne 동시 호출 수는 PortOneCallLimiter가 제한
+ * - 예약 취소에 실패한 구독은 PAST_DUE로 남아 다음 실행에서 다시 대상이 된다.
+ * - 여러 노드 중 잠금을 얻은 노드만 실행, chunk마다 lease를 연장하고 진행 위치 기록 시 펜싱 토큰을 확인한다.
+ *   Redis 펜싱 카운터가 기록된 토큰보다 뒤처져 있으면 시작 전에 카운터를 올린다.
+ */
 @Slf4j
 @Component
-@RequiredArgsConstructor
 public class PastDueExpirationProcessor {
-    private static final int GRACE_PERIOD_DAYS = 7;
+    static final String JOB_NAME = "past-due-expiration";
 
     private final SubscriptionRepository subscriptionRepository;
+    private final JobCheckpointRepository jobCheckpointRepository;
     private final PortOneService portOneService;
+    private final PortOneCallLimiter portOneCallLimiter;
+    private final PastDueExpirationProperties properties;
+    private final SchedulerLock schedulerLock;
+    private final TransactionTemplate transactionTemplate;
 
-    @Scheduled(cron = "0 0 3 * * *")
-    @Transactional
+    public PastDueExpirationProcessor(SubscriptionRepository subscriptionRepository,
+                                      JobCheckpointRepository jobCheckpointRepository,
+                                      PortOneService portOneService,
+                                      PortOneCallLimiter portOneCallLimiter,
+                                      PastDueExpirationProperties properties,
+                                      SchedulerLock schedulerLock,
+                                      PlatformTransactionManager transactionManager) {
+        this.subscriptionRepository = subscriptionRepository;
+        this.jobCheckpointRepository = jobCheckpointRepository;
+        this.portOneService = portOneService;
+        this.portOneCallLimiter = portOneCallLimiter;
+        this.properties = properties;
+        this.schedulerLock = schedulerLock;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    @Scheduled(cron = "#{@pastDueExpirationProperties.cron}")
     public void processExpiredPastDueSubscriptions() {
-        Instant cutoff = Instant.now().minus(GRACE_PERIOD_DAYS, ChronoUnit.DAYS);
-        List<Subscription> expiredSubscriptions = subscriptionRepository
-                .findByStatusAndUpdatedAtBefore(SubscriptionStatus.PAST_DUE, cutoff);
+        schedulerLock.runExclusively(JOB_NAME, SchedulerLock.OnLockError.SKIP, this::expireAll);
+    }
 
-        if (expiredSubscriptions.isEmpty()) {
+    private void expireAll(SchedulerLease acquired) {
+        SchedulerLease lease = catchUpFence(acquired);
+        if (lease == null) {
             return;
         }
+        JobCheckpoint checkpoint = startOrResume(lease);
+        if (checkpoint == null) {
+            return;
+        }
+        log.info("PAST_DUE 만료 처리 시작 - 기준 시각: {}, 시작 id: {}", checkpoint.getCutoff(), checkpoint.getLastProcessedId());
 
-        log.info("PAST_DUE 만료 처리 시작 - 대상 수: {}", expiredSubscriptions.size());
+        long startedAt = System.nanoTime();
+        Long lastId = checkpoint.getLastProcessedId();
+        int chunks = 0;
+        int expired = 0;
 
-        for (Subscription subscription : expiredSubscriptions) {
-            try {
-                revokeScheduleIfExists(subscription);
-                subscription.expire();
-                log.info("구독 만료 처리 완료 - subscriptionId: {}", subscription.getId());
-            } catch (Exception e) {
-                log.error("구독 만료 처리 실패 - subscriptionId: {}", subscription.getId(), e);
+        while (true) {
+            List<Long> subscriptionIds = subscriptionRepository.findIdsByStatusAndUpdatedAtBefore(
+                    SubscriptionStatus.PAST_DUE, checkpoint.getCutoff(), lastId, PageRequest.of(0, properties.getChunkSize()));
+            if (subscriptionIds.isEmpty()) {
+                break;
             }
+
+            int expiredInChunk = processChunk(subscriptionIds);
+            lastId = subscriptionIds.get(subscriptionIds.size() - 1);
+            chunks++;
+            expired += expiredInChunk;
+            if (!saveProgress(lease, lastId, expiredInChunk) || !schedulerLock.extend(lease)) {
+                log.warn("PAST_DUE 만료 처리 잠금을 잃어 중단 - 마지막 id: {}", lastId);
+                return;
+            }
+        }
+
+        complete(lease);
+        log.info("PAST_DUE 만료 처리 종료 - chunk: {}개, 만료: {}건, 소요: {}ms",
+                chunks, expired, (System.nanoTime() - startedAt) / 1_000_000);
+    }
+
+    /**
+     * 기록된 토큰이 이번 lease의 토큰보다 작지 않으면 Redis 펜싱 카운터가 되돌아간 것 (재시작, FLUSH)
+     * 잠금은 지금 이 실행이 쥐고 있으므로 카운터를 기록된 토큰 이후로 올려 새 토큰으로 진행한다.
+     * 그대로 두면 카운터가 기록된 토큰을 넘을 때까지 모든 실행이 거부된다.
+     */
+    private SchedulerLease catchUpFence(SchedulerLease lease) {
+        if (lease.isLocal()) {
+            return lease;
         }
+        Long storedToken = jobCheckpointRepository.findById(JOB_NAME)
+                .map(JobCheckpoint::getFencingToken)
+                .orElse(null);
+        if (storedToken == null || storedToken < lease.fencingToken()) {
+            return lease;
+        }
+        schedulerLock.reportRejected(lease, storedToken);
+        SchedulerLease advanced = schedulerLock.advanceFence(lease, storedToken).orElse(null);
+        if (advanced == null) {
+            log.warn("펜싱 카운터를 올리지 못해 시작하지 않음 - 토큰: {}", lease.fencingToken());
+        }
+        return advanced;
+    }
+
+    /**
+     * 이전 실행이 끝나지 않았으면 그 기준 시각과 위치에서 재개, 아니면 새 기준 시각으로 시작
+     */
+    private JobCheckpoint startOrResume(SchedulerLease lease) {
+        return transactionTemplate.execute(status -> {
+            Instant cutoff = Instant.now().minus(properties.getGracePeriod());
+            JobCheckpoint checkpoint = jobCheckpointRepository.findByIdForUpdate(JOB_NAME).orElse(null);
+            if (checkpoint == null) {
+                JobCheckpoint started = JobCheckpoint.start(JOB_NAME, cutoff);
+                started.acceptFencingToken(lease.fencingToken());
+                return jobCheckpointRepository.save(started);
+            }
+            if (!checkpoint.acceptFencingToken(lease.fencingToken())) {
+                schedulerLock.reportRejected(lease, checkpoint.getFencingToken());
+                return null;
+            }
+            if (checkpoint.isRunning()) {
+                log.warn("중단된 PAST_DUE 만료 처리 재개 - 처리된 구독: {}건, 마지막 id: {}",
+                        checkpoint.getProcessedCount(), checkpoint.getLastProcessedId());
+                return checkpoint;
+            }
+            checkpoint.restart(cutoff);
+            return checkpoint;
+        });
+    }
+
+    /**
+     * 진행 위치 기록, 그 사이 더 큰 펜싱 토큰으로 다른 실행이 시작됐으면 기록하지 않고 false
+     */
+    private boolean saveProgress(SchedulerLease lease, Long lastId, int expired) {
+        return Boolean.TRUE.equals(transactionTemplate.execute(status -> {
+            JobCheckpoint checkpoint = jobCheckpointRepository.findByIdForUpdate(JOB_NAME).orElse(null);
+            if (checkpoint == null) {
+                return false;
+            }
+            if (!checkpoint.acceptFencingToken(lease.fencingToken())) {
+                schedulerLock.reportRejected(lease, checkpoint.getFencingToken());
+                return false;
+            }
+            checkpoint.advance(lastId, expired);
+            return true;
+        }));
     }
 
-    private void revokeScheduleIfExists(Subscription subscription) {
-        String scheduleId = subscription.getCurrentPaymentScheduleId();
-        if (scheduleId != null) {
-            portOneService.revokePaymentSchedule(scheduleId);
-            subscription.setCurrentPaymentScheduleId(null);
+    private void complete(SchedulerLease lease) {
+        transactionTemplate.executeWithoutResult(status -> jobCheckpointRepository.findByIdForUpdate(JOB_NAME)
+                .ifPresent(checkpoint -> {
+                    if (checkpoint.acceptFencingToken(lease.fencingToken())) {
+                        checkpoint.complete();
+                    } else {
+                        schedulerLock.reportRejected(lease, checkpoint.getFencingToken());
+                    }
+                }));
+    }
+
+    /**
+     * chunk 단위 처리
+     * 1) 대상 구독의 결제 예약 id를 모아 revokeBatchSize 단위로 일괄 취소 (구독마다 호출하지 않음)
+     * 2) 예약이 없거나 취소가 확인된 구독만 한 트랜잭션에서 만료
+     * 취소되지 않은 예약의 구독은 PAST_DUE로 남아 다음 실행에서 다시 시도한다.
+     */
+    private int processChunk(List<Long> subscriptionIds) {
+        Map<Long, String> scheduleIds = findPastDueScheduleIds(subscriptionIds);
+        Set<String> revoked = revokeSchedules(scheduleIds.values().stream()
+                .filter(Objects::nonNull)
+                .toList());
+
+        List<Long> expirable = new ArrayList<>();
+        scheduleIds.forEach((subscriptionId, scheduleId) -> {
+            if (scheduleId == null || revoked.contains(scheduleId)) {
+                expirable.add(subscriptionId);
+            } else {
+                log.error("결제 예약 취소 실패로 만료 보류 - subscriptionId: {}, scheduleId: {}", subscriptionId, scheduleId);
+            }
+        });
+        return expire(expirable);
+    }
+
+    /**
+     * subscriptionId → 현재 결제 예약 id (예약이 없으면 null)
+     */
+    private Map<Long, String> findPastDueScheduleIds(List<Long> subscriptionIds) {
+        return transactionTemplate.execute(status -> {
+            Map<Long, Subscription> subscriptions = new HashMap<>();
+            subscriptionRepository.findAllById(subscriptionIds)
+                    .forEach(subscription -> subscriptions.put(subscription.getId(), subscription));
+
+            // 조회 순서와 관계없이 id 순서 유지
+            Map<Long, String> scheduleIds = new LinkedHashMap<>();
+            for (Long subscriptionId : subscriptionIds) {
+                Subscription subscription = subscriptions.get(subscriptionId);
+                if (subscription != null && subscription.isPastDue()) {
+                    scheduleIds.put(subscriptionId, subscription.getCurrentPaymentScheduleId());
+                }
+            }
+            return scheduleIds;
+        });
+    }
+
+    private Set<String> revokeSchedules(List<String> scheduleIds) {
+        Set<String> revoked = ConcurrentHashMap.newKeySet();
+        // close()가 제출한 작업이 모두 끝날 때까지 기다린다
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            int batchSize = properties.getRevokeBatchSize();
+            for (int from = 0; from < scheduleIds.size(); from += batchSize) {
+                List<String> batch = scheduleIds.subList(from, Math.min(from + batchSize, scheduleIds.size()));
+                executor.submit(() -> revoked.addAll(revokeBatch(batch)));
+            }
+        }
+        return revoked;
+    }
+
+    /**
+     * 일괄 취소가 실패하면 절반씩 나눠 다시 시도해, 문제가 되는 예약만 실패로 남긴다.
+     * PortOne 장애(서킷 OPEN 등)로 실패한 경우에는 나누지 않고 다음 실행으로 미룬다.
+     */
+    private Set<String> revokeBatch(List<String> batch) {
+        try {
+            return portOneCallLimiter.call(() -> portOneService.revokePaymentSchedules(batch));
+        } catch (Exception e) {
+            if (batch.size() == 1 || isGatewayUnavailable(e)) {
+                log.error("결제 예약 취소 실패 - 건수: {}, 첫 scheduleId: {}", batch.size(), batch.getFirst(), e);
+                return Set.of();
+            }
+            log.warn("결제 예약 일괄 취소 실패, 나눠서 재시도 - 건수: {}", batch.size());
+            int half = batch.size() / 2;
+            Set<String> revoked = new HashSet<>(revokeBatch(batch.subList(0, half)));
+            revoked.addAll(revokeBatch(batch.subList(half, batch.size())));
+            return revoked;
+        }
+    }
+
+    private static boolean isGatewayUnavailable(Exception e) {
+        return e instanceof BusinessException businessException
+                && businessException.getStatusCode() == ApiStatusCode.PAYMENT_GATEWAY_UNAVAILABLE;
+    }
+
+    private int expire(List<Long> subscriptionIds) {
+        if (subscriptionIds.isEmpty()) {
+            return 0;
+        }
+        try {
+            Integer expired = transactionTemplate.execute(status -> {
+                int count = 0;
+                for (Subscription subscription : subscriptionRepository.findAllById(subscriptionIds)) {
+                    if (!subscription.isPastDue()) {
+                        continue;
+                    }
+                    subscription.setCurrentPaymentScheduleId(null);
+                    subscription.expire();
+                    count++;
+                }
+                return count;
+            });
+            log.info("구독 만료 처리 완료 - {}건", expired);
+            return expired == null ? 0 : expired;
+        } catch (Exception e) {
+            log.error("구독 만료 처리 실패 - subscriptionIds: {}", subscriptionIds, e);
+            return 0;
         }
     }
 }
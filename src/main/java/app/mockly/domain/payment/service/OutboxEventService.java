@@ -0,0 +1,59 @@
+package app.mockly.domain.payment.service;
+
+import app.mockly.domain.payment.dto.response.FailedOutboxEventResponse;
+import app.mockly.domain.payment.entity.OutboxEvent;
+import app.mockly.domain.payment.entity.OutboxEventStatus;
+import app.mockly.domain.payment.event.OutboxEventReplayedEvent;
+import app.mockly.domain.payment.repository.OutboxEventRepository;
+import app.mockly.global.common.ApiStatusCode;
+import app.mockly.global.exception.BusinessException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.util.List;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class OutboxEventService {
+    private static final int FAILED_EVENTS_LIMIT = 100;
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final ApplicationEventPublisher eventPublisher;
+
+    public List<FailedOutboxEventResponse> getFailedEvents() {
+        return outboxEventRepository.findByStatusOrderByUpdatedAtDesc(OutboxEventStatus.FAILED, PageRequest.of(0, FAILED_EVENTS_LIMIT))
+                .stream()
+                .map(FailedOutboxEventResponse::from)
+                .toList();
+    }
+
+    @Transactional
+    public int replay(Long eventId) {
+        OutboxEvent event = outboxEventRepository.findByIdForUpdate(eventId)
+                .orElseThrow(() -> new BusinessException(ApiStatusCode.RESOURCE_NOT_FOUND, "Outbox 이벤트를 찾을 수 없습니다."));
+        if (event.getStatus() != OutboxEventStatus.FAILED) {
+            throw new BusinessException(ApiStatusCode.BAD_REQUEST, "FAILED 상태의 이벤트만 재처리할 수 있습니다.");
+        }
+        event.replay();
+        eventPublisher.publishEvent(new OutboxEventReplayedEvent(eventId, 1));
+        log.info("Outbox 이벤트 재처리 요청 - eventId: {}, eventType: {}", eventId, event.getEventType());
+        return 1;
+    }
+
+    @Transactional
+    public int replayAllFailed() {
+        int count = outboxEventRepository.replayAllFailed(Instant.now());
+        if (count > 0) {
+            eventPublisher.publishEvent(new OutboxEventReplayedEvent(null, count));
+        }
+        log.info("Outbox 실패 이벤트 전체 재처리 요청 - {}건", count);
+        return count;
+    }
+}
@@ -2,6 +2,7 @@ package app.mockly.domain.payment.service;
 
 import app.mockly.domain.auth.entity.User;
 import app.mockly.domain.auth.repository.UserRepository;
+import app.mockly.domain.payment.client.BillingKeyCard;
 import app.mockly.domain.payment.client.PortOneService;
 import app.mockly.domain.payment.dto.response.PaymentMethodResponse;
 import app.mockly.domain.payment.entity.PaymentMethod;
@@ -10,37 +11,57 @@ import app.mockly.domain.product.entity.SubscriptionStatus;
 import app.mockly.domain.product.repository.SubscriptionRepository;
 import app.mockly.global.common.ApiStatusCode;
 import app.mockly.global.exception.BusinessException;
-import io.portone.sdk.server.common.Card;
-import io.portone.sdk.server.payment.billingkey.BillingKeyInfo;
-import io.portone.sdk.server.payment.billingkey.BillingKeyPaymentMethod;
-import io.portone.sdk.server.payment.billingkey.BillingKeyPaymentMethodCard;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.util.List;
 import java.util.UUID;
 
 @Slf4j
 @Service
-@RequiredArgsConstructor
 @Transactional(readOnly = true)
 public class PaymentMethodService {
     private final PaymentMethodRepository paymentMethodRepository;
     private final PortOneService portOneService;
     private final UserRepository userRepository;
     private final SubscriptionRepository subscriptionRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    public PaymentMethodService(PaymentMethodRepository paymentMethodRepository,
+                                PortOneService portOneService,
+                                UserRepository userRepository,
+                                SubscriptionRepository subscriptionRepository,
+                                PlatformTransactionManager transactionManager) {
+        this.paymentMethodRepository = paymentMethodRepository;
+        this.portOneService = portOneService;
+        this.userRepository = userRepository;
+        this.subscriptionRepository = subscriptionRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
 
-    @Transactional
+    /**
+     * PortOne 빌링키 조회는 트랜잭션 밖에서 기다리고, 저장만 짧은 트랜잭션으로 처리한다.
+     */
+    @Transactional(propagation = Propagation.SUPPORTS)
     public PaymentMethodResponse addPaymentMethod(UUID userId, String billingKey) {
+        if (!userRepository.existsById(userId)) {
+            throw new BusinessException(ApiStatusCode.RESOURCE_NOT_FOUND, "사용자를 찾을 수 없습니다.");
+        }
+
+        BillingKeyCard card = portOneService.getBillingKey(billingKey);
+
+        return transactionTemplate.execute(status -> savePaymentMethod(userId, billingKey, card));
+    }
+
+    private PaymentMethodResponse savePaymentMethod(UUID userId, String billingKey, BillingKeyCard card) {
         User user = userRepository.findById(userId)
                 .orElseThrow(() -> new BusinessException(ApiStatusCode.RESOURCE_NOT_FOUND, "사용자를 찾을 수 없습니다."));
-
-        BillingKeyInfo billingKeyInfo = portOneService.getBillingKey(billingKey);
-        Card card = getCard(billingKeyInfo);
-        String cardNumber = card.getNumber();
-        String cardBrand = card.getBrand().toString();
+        String cardNumber = card.cardNumber();
+        String cardBrand = card.cardBrand();
 
         List<PaymentMethod> existingMethods = paymentMethodRepository.findByUserIdAndIsActiveTrueOrderByCreatedAtDesc(userId);
         boolean isDefault = existingMethods.isEmpty();
@@ -74,6 +95,7 @@ public class PaymentMethodService {
 
         paymentMethod.deactivate();
         paymentMethodRepository.save(paymentMethod);
+        portOneService.evictBillingKey(paymentMethod.getBillingKey());
 
         log.info("결제 수단 삭제 - userId: {}, paymentMethodId: {}, hadActiveSubscription: {}",
                 userId, paymentMethodId, hasActiveSubscription);
@@ -100,22 +122,4 @@ public class PaymentMethodService {
         log.info("기본 결제 수단 변경 - userId: {}, oldDefaultId: {}, newDefaultId: {}", userId, oldDefaultId, paymentMethodId);
         return PaymentMethodResponse.from(saved);
     }
-
-    private static Card getCard(BillingKeyInfo billingKeyInfo) {
-        if (!(billingKeyInfo instanceof BillingKeyInfo.Recognized recognized)) {
-            throw new BusinessException(ApiStatusCode.BAD_REQUEST, "유효하지 않은 빌링키입니다.");
-        }
-
-        List<BillingKeyPaymentMethod> methods = recognized.getMethods();
-        if (methods == null || methods.isEmpty()) {
-            throw new BusinessException(ApiStatusCode.BAD_REQUEST, "결제 수단 정보를 찾을 수 없습니다.");
-        }
-
-        BillingKeyPaymentMethod method = methods.getFirst();
-        if (!(method instanceof BillingKeyPaymentMethodCard cardMethod)) {
-            throw new BusinessException(ApiStatusCode.BAD_REQUEST, "현재 카드 결제 수단만 지원합니다.");
-        }
-
-        return cardMethod.getCard();
-    }
 }
@@ -1,5 +1,7 @@
 package app.mockly.domain.payment.service;
 
+import app.mockly.domain.payment.client.GatewayPayment;
+import app.mockly.domain.payment.client.PortOneService;
 import app.mockly.domain.payment.entity.Payment;
 import app.mockly.domain.payment.entity.PaymentMethodType;
 import app.mockly.domain.payment.entity.PaymentStatus;
@@ -8,11 +10,7 @@ import app.mockly.domain.product.entity.Subscription;
 import app.mockly.domain.product.entity.SubscriptionStatus;
 import app.mockly.domain.product.service.SubscriptionService;
 import app.mockly.global.config.PortOneProperties;
-import io.portone.sdk.server.PortOneClient;
 import io.portone.sdk.server.errors.WebhookVerificationException;
-import io.portone.sdk.server.payment.FailedPayment;
-import io.portone.sdk.server.payment.PaidPayment;
-import io.portone.sdk.server.payment.PaymentFailure;
 import io.portone.sdk.server.webhook.*;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -24,7 +22,7 @@ import org.springframework.transaction.annotation.Transactional;
 @RequiredArgsConstructor
 public class WebhookService {
     private final PortOneProperties portOneProperties;
-    private final PortOneClient portOneClient;
+    private final PortOneService portOneService;
 
     private final SubscriptionService subscriptionService;
 
@@ -56,14 +54,14 @@ public class WebhookService {
             return;
         }
 
-        io.portone.sdk.server.payment.Payment paymentInfo = portOneClient.getPayment().getPayment(paymentId).join();
-        if (!(paymentInfo instanceof PaidPayment paidPayment)) {
+        GatewayPayment paymentInfo = portOneService.getPayment(paymentId);
+        if (!paymentInfo.isPaid()) {
             log.warn("결제가 완료 상태가 아닙니다: {}", paymentId);
             return;
         }
-        PaymentMethodType paymentMethodType = PaymentMethodType.from(paidPayment.getMethod());
+        PaymentMethodType paymentMethodType = paymentInfo.methodType();
 
-        String billingKey = paidPayment.getBillingKey(); // 결제에 사용된 빌링키
+        String billingKey = paymentInfo.billingKey(); // 결제에 사용된 빌링키
         if (billingKey == null) {
             log.error("결제에서 빌링키를 찾을 수 없습니다 - paymentId: {}", paymentId);
             return;
@@ -118,14 +116,9 @@ public class WebhookService {
 
         // PortOne API로 실패 사유 조회
         String failReason = "실패 메세지";
-        io.portone.sdk.server.payment.Payment paymentInfo = portOneClient.getPayment().getPayment(paymentId).join();
-        if (paymentInfo instanceof FailedPayment failedPayment) {
-            PaymentFailure failure = failedPayment.getFailure();
-            if (failure.getReason() != null) {
-                failReason = failure.getReason();
-            } else if (failure.getPgMessage() != null) {
-                failReason = failure.getPgMessage();
-            }
+        GatewayPayment paymentInfo = portOneService.getPayment(paymentId);
+        if (paymentInfo.isFailed() && paymentInfo.failReason() != null) {
+            failReason = paymentInfo.failReason();
         }
 
         payment.markAsFailed(failReason);
@@ -28,13 +28,8 @@ public class SubscriptionController {
     public ResponseEntity<ApiResponse<CreateSubscriptionResponse>> createSubscription(
             @RequestBody @Valid CreateSubscriptionRequest request,
             @AuthenticationPrincipal UUID userId) {
-        CreateSubscriptionResponse response = subscriptionService.createSubscription(userId, request); // tx1: 결제 + Outbox 저장
-
-        try {
-            subscriptionService.processScheduleCreation(response.id()); // tx2: 스케줄 생성 (Outbox Polling)
-        } catch (Exception e) {
-            log.error("스케줄 생성 실패, Outbox 재시도 예정 - subscriptionId: {}", response.id(), e);
-        }
+        // 결제 + Outbox 저장, 스케줄 생성은 커밋 직후 Outbox 디스패처가 처리
+        CreateSubscriptionResponse response = subscriptionService.createSubscription(userId, request);
 
         return ResponseEntity.status(HttpStatus.CREATED)
                 .body(ApiResponse.success(response));
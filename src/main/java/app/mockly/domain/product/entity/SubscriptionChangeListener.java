@@ -0,0 +1,25 @@
+package app.mockly.domain.product.entity;
+
+import app.mockly.domain.product.event.SubscriptionChangedEvent;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+/**
+ * 구독 상태 변경(activate/cancel/expire 등)이 DB에 반영될 때 이벤트 발행
+ */
+@Component
+@RequiredArgsConstructor
+public class SubscriptionChangeListener {
+    private final ApplicationEventPublisher eventPublisher;
+
+    @PostPersist
+    @PostUpdate
+    @PostRemove
+    public void onChange(Subscription subscription) {
+        eventPublisher.publishEvent(new SubscriptionChangedEvent(subscription.getUserId()));
+    }
+}
@@ -32,6 +32,9 @@ public class SubscriptionProduct extends BaseEntity {
     @Column(columnDefinition = "jsonb")
     private List<String> features = new ArrayList<>();
 
+    @Column(name = "max_sessions")
+    private Integer maxSessions; // 동시 로그인 가능 기기 수, null이면 기본값(session.max-sessions)
+
     @Builder.Default
     @Column(name = "is_active", nullable = false)
     private boolean isActive = true;
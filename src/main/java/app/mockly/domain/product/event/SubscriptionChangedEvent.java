@@ -0,0 +1,6 @@
+package app.mockly.domain.product.event;
+
+import java.util.UUID;
+
+public record SubscriptionChangedEvent(UUID userId) {
+}
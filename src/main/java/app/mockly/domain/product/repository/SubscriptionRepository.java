@@ -2,6 +2,7 @@ package app.mockly.domain.product.repository;
 
 import app.mockly.domain.product.entity.Subscription;
 import app.mockly.domain.product.entity.SubscriptionStatus;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 
@@ -30,5 +31,15 @@ public interface SubscriptionRepository extends JpaRepository<Subscription, Long
             """)
     Optional<Subscription> findByUserIdAndPlanIdAndStatus(UUID userId, Integer planId, SubscriptionStatus status);
 
-    List<Subscription> findByStatusAndUpdatedAtBefore(SubscriptionStatus status, Instant cutoff);
+    /**
+     * id 순 keyset 페이지 (afterId 이후부터)
+     */
+    @Query("""
+            SELECT s.id FROM Subscription s
+            WHERE s.status = :status
+                AND s.updatedAt < :cutoff
+                AND s.id > :afterId
+            ORDER BY s.id ASC
+            """)
+    List<Long> findIdsByStatusAndUpdatedAtBefore(SubscriptionStatus status, Instant cutoff, Long afterId, Pageable pageable);
 }
@@ -26,6 +26,16 @@ public class PaymentScheduleService {
     private final PaymentRepository paymentRepository;
 
     public String createSchedule(Subscription subscription, String billingKey, LocalDateTime periodStart, LocalDateTime periodEnd) {
+        PendingSchedule pending = prepareSchedule(subscription, billingKey, periodStart, periodEnd);
+        String scheduleId = requestSchedule(pending);
+        subscription.setCurrentPaymentScheduleId(scheduleId);
+        return scheduleId;
+    }
+
+    /**
+     * 예약할 기간의 청구서/결제 저장 (PG 호출 전 단계, 트랜잭션 안에서 호출)
+     */
+    public PendingSchedule prepareSchedule(Subscription subscription, String billingKey, LocalDateTime periodStart, LocalDateTime periodEnd) {
         Invoice invoice = Invoice.create(
                 subscription,
                 subscription.getSubscriptionPlan().getPrice(),
@@ -45,7 +55,8 @@ public class PaymentScheduleService {
         java.time.Instant timeToPay = periodStart
                 .atZone(java.time.ZoneId.of("UTC"))
                 .toInstant();
-        String scheduleId = portOneService.createPaymentSchedule(
+        return new PendingSchedule(
+                invoice.getId(),
                 payment.getId(),
                 billingKey,
                 subscription.getSubscriptionPlan().getProduct().getName() + " - 갱신",
@@ -53,9 +64,28 @@ public class PaymentScheduleService {
                 new PaymentAmountInput(subscription.getSubscriptionPlan().getPrice().longValue(), null, null),
                 timeToPay
         );
+    }
 
-        subscription.setCurrentPaymentScheduleId(scheduleId);
-        return scheduleId;
+    /**
+     * PG 결제 예약 (DB 작업 없음, 트랜잭션 밖에서 호출 가능)
+     */
+    public String requestSchedule(PendingSchedule pending) {
+        return portOneService.createPaymentSchedule(
+                pending.paymentId(),
+                pending.billingKey(),
+                pending.orderName(),
+                pending.currency(),
+                pending.amount(),
+                pending.timeToPay()
+        );
+    }
+
+    /**
+     * 예약에 실패한 청구서/결제 삭제 (재시도하면 새로 만든다)
+     */
+    public void discardSchedule(PendingSchedule pending) {
+        paymentRepository.deleteById(pending.paymentId());
+        invoiceRepository.deleteById(pending.invoiceId());
     }
 
     public void replaceSchedule(Subscription subscription, PaymentMethod newPaymentMethod) {
@@ -104,4 +134,18 @@ public class PaymentScheduleService {
             case LIFETIME -> null;
         };
     }
+
+    /**
+     * 청구서/결제를 저장하고 아직 PG에 예약하지 않은 건 (트랜잭션 경계를 넘어가므로 엔티티 대신 식별자만 들고 간다)
+     */
+    public record PendingSchedule(
+            String invoiceId,
+            String paymentId,
+            String billingKey,
+            String orderName,
+            io.portone.sdk.server.common.Currency currency,
+            PaymentAmountInput amount,
+            java.time.Instant timeToPay
+    ) {
+    }
 }
@@ -1,5 +1,6 @@
 package app.mockly.domain.product.service;
 
+import app.mockly.domain.payment.client.PortOneCallLimiter;
 import app.mockly.domain.payment.client.PortOneService;
 import app.mockly.domain.payment.entity.*;
 import app.mockly.domain.payment.repository.InvoiceRepository;
@@ -16,10 +17,12 @@ import app.mockly.domain.product.repository.SubscriptionRepository;
 import app.mockly.global.common.ApiStatusCode;
 import app.mockly.global.exception.BusinessException;
 import io.portone.sdk.server.common.PaymentAmountInput;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
@@ -27,11 +30,11 @@ import java.util.UUID;
 
 @Slf4j
 @Service
-@RequiredArgsConstructor
 @Transactional(readOnly = true)
 public class SubscriptionService {
     private final PaymentMethodRepository paymentMethodRepository;
     private final PortOneService portOneService;
+    private final PortOneCallLimiter portOneCallLimiter;
     private final PaymentScheduleService paymentScheduleService;
 
     private final SubscriptionRepository subscriptionRepository;
@@ -39,9 +42,58 @@ public class SubscriptionService {
     private final InvoiceRepository invoiceRepository;
     private final PaymentRepository paymentRepository;
     private final OutboxEventRepository outboxEventRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    public SubscriptionService(PaymentMethodRepository paymentMethodRepository,
+                               PortOneService portOneService,
+                               PortOneCallLimiter portOneCallLimiter,
+                               PaymentScheduleService paymentScheduleService,
+                               SubscriptionRepository subscriptionRepository,
+                               SubscriptionPlanRepository subscriptionPlanRepository,
+                               InvoiceRepository invoiceRepository,
+                               PaymentRepository paymentRepository,
+                               OutboxEventRepository outboxEventRepository,
+                               PlatformTransactionManager transactionManager) {
+        this.paymentMethodRepository = paymentMethodRepository;
+        this.portOneService = portOneService;
+        this.portOneCallLimiter = portOneCallLimiter;
+        this.paymentScheduleService = paymentScheduleService;
+        this.subscriptionRepository = subscriptionRepository;
+        this.subscriptionPlanRepository = subscriptionPlanRepository;
+        this.invoiceRepository = invoiceRepository;
+        this.paymentRepository = paymentRepository;
+        this.outboxEventRepository = outboxEventRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
 
-    @Transactional
+    /**
+     * 구독 생성
+     * PG 결제 대기 동안 DB 트랜잭션(커넥션)을 잡지 않도록 세 단계로 나눈다.
+     * 1) 검증 + PENDING 구독/청구서/결제 저장 → 2) PG 결제 (트랜잭션 밖) → 3) 결과 반영
+     */
+    @Transactional(propagation = Propagation.SUPPORTS)
     public CreateSubscriptionResponse createSubscription(UUID userId, CreateSubscriptionRequest request) {
+        PendingCheckout checkout = transactionTemplate.execute(status -> preparePendingCheckout(userId, request));
+
+        try {
+            portOneService.payWithBillingKey(
+                    checkout.paymentId(), checkout.billingKey(), checkout.orderName(), checkout.currency(), checkout.amount());
+        } catch (Exception e) {
+            log.error("구독 생성 실패 - userId: {}, subscriptionId: {}, paymentId: {}", userId, checkout.subscriptionId(), checkout.paymentId());
+
+            transactionTemplate.executeWithoutResult(status -> failCheckout(checkout, e.getMessage()));
+            // PortOne 장애로 빠르게 거절된 경우는 그대로 알려 재시도를 유도
+            if (e instanceof BusinessException businessException
+                    && businessException.getStatusCode() == ApiStatusCode.PAYMENT_GATEWAY_UNAVAILABLE) {
+                throw businessException;
+            }
+            throw new BusinessException(ApiStatusCode.INTERNAL_SERVER_ERROR, "결제 처리 중 오류가 발생했습니다.");
+        }
+
+        return transactionTemplate.execute(status -> completeCheckout(userId, checkout));
+    }
+
+    private PendingCheckout preparePendingCheckout(UUID userId, CreateSubscriptionRequest request) {
         Integer planId = request.planId();
         BigDecimal expectedPrice = request.expectedPrice();
         Long paymentMethodId = request.paymentMethodId();
@@ -75,14 +127,11 @@ public class SubscriptionService {
                     throw new BusinessException(ApiStatusCode.BAD_REQUEST, "이미 해당 플랜을 구독중입니다.");
                 });
 
-        // 기존 구독 확인 및 취소
+        // 기존 구독 확인 (무료 플랜 취소는 결제 성공 후)
         subscriptionRepository.findByUserIdAndStatus(userId, SubscriptionStatus.ACTIVE)
+                .filter(currentPlan -> !currentPlan.getSubscriptionPlan().isFree())
                 .ifPresent(currentPlan -> {
-                    if (currentPlan.getSubscriptionPlan().isFree()) {
-                        currentPlan.cancel();
-                    } else {
-                        throw new BusinessException(ApiStatusCode.BAD_REQUEST, "이미 구독중인 플랜이 있습니다. 구독 변경 API를 사용하세요.");
-                    }
+                    throw new BusinessException(ApiStatusCode.BAD_REQUEST, "이미 구독중인 플랜이 있습니다. 구독 변경 API를 사용하세요.");
                 });
 
         // Subscription(PENDING) + Invoice(PENDING) + Payment(PENDING) 생성
@@ -99,33 +148,69 @@ public class SubscriptionService {
         Payment payment = Payment.create(invoice, subscriptionPlan.getPrice(), subscriptionPlan.getCurrency());
         paymentRepository.save(payment);
 
-        outboxEventRepository.save(OutboxEvent.scheduleCreate(subscription.getId(), billingKey));
+        PaymentAmountInput paymentAmountInput = new PaymentAmountInput(subscriptionPlan.getPrice().longValue(), null, null);
+        String orderName = subscriptionPlan.getProduct().getName() + " - " + subscriptionPlan.getBillingCycle().name();
+        return new PendingCheckout(subscription.getId(), invoice.getId(), payment.getId(), paymentMethodId, billingKey,
+                orderName, subscriptionPlan.getCurrency().toPortOneCurrency(), paymentAmountInput);
+    }
 
-        // 결제 요청
-        try {
-            PaymentAmountInput paymentAmountInput = new PaymentAmountInput(subscriptionPlan.getPrice().longValue(), null, null);
-            String orderName = subscriptionPlan.getProduct().getName() + " - " + subscriptionPlan.getBillingCycle().name();
-            portOneService.payWithBillingKey(
-                    payment.getId(), billingKey, orderName, subscriptionPlan.getCurrency().toPortOneCurrency(), paymentAmountInput);
+    private CreateSubscriptionResponse completeCheckout(UUID userId, PendingCheckout checkout) {
+        Subscription subscription = getSubscription(checkout.subscriptionId());
+        Invoice invoice = getInvoice(checkout.invoiceId());
+        Payment payment = getPayment(checkout.paymentId());
 
-            // 결제 성공 처리 (현재 카드만 지원)
-            payment.markAsPaid(PaymentMethodType.CARD);
-            invoice.markAsPaid();
-            subscription.activate();
+        // 기존 무료 플랜 취소
+        subscriptionRepository.findByUserIdAndStatus(userId, SubscriptionStatus.ACTIVE)
+                .filter(currentPlan -> currentPlan.getSubscriptionPlan().isFree())
+                .ifPresent(Subscription::cancel);
 
-            log.info("구독 생성 성공 - userId: {}, subscriptionId: {}, paymentId: {}, paymentMethodId: {}",
-                    userId, subscription.getId(), payment.getId(), paymentMethodId);
+        // 결제 성공 처리 (현재 카드만 지원)
+        payment.markAsPaid(PaymentMethodType.CARD);
+        invoice.markAsPaid();
+        subscription.activate();
 
-            return CreateSubscriptionResponse.from(subscription);
-        } catch (Exception e) {
-            log.error("구독 생성 실패 - userId: {}, subscriptionId: {}, paymentId: {}", userId, subscription.getId(), payment.getId());
+        outboxEventRepository.save(OutboxEvent.scheduleCreate(subscription.getId(), checkout.billingKey()));
 
-            payment.markAsFailed(e.getMessage());
-            invoice.markAsFailed();
+        log.info("구독 생성 성공 - userId: {}, subscriptionId: {}, paymentId: {}, paymentMethodId: {}",
+                userId, subscription.getId(), payment.getId(), checkout.paymentMethodId());
 
-            // Outbox도 함께 롤백됨 (같은 @Transactional)
-            throw new BusinessException(ApiStatusCode.INTERNAL_SERVER_ERROR, "결제 처리 중 오류가 발생했습니다.");
-        }
+        return CreateSubscriptionResponse.from(subscription);
+    }
+
+    private void failCheckout(PendingCheckout checkout, String reason) {
+        getPayment(checkout.paymentId()).markAsFailed(reason);
+        getInvoice(checkout.invoiceId()).markAsFailed();
+        getSubscription(checkout.subscriptionId()).cancel();
+    }
+
+    private Subscription getSubscription(Long subscriptionId) {
+        return subscriptionRepository.findById(subscriptionId)
+                .orElseThrow(() -> new BusinessException(ApiStatusCode.RESOURCE_NOT_FOUND, "구독을 찾을 수 없습니다."));
+    }
+
+    private Invoice getInvoice(String invoiceId) {
+        return invoiceRepository.findById(invoiceId)
+                .orElseThrow(() -> new BusinessException(ApiStatusCode.RESOURCE_NOT_FOUND, "청구서를 찾을 수 없습니다."));
+    }
+
+    private Payment getPayment(String paymentId) {
+        return paymentRepository.findById(paymentId)
+                .orElseThrow(() -> new BusinessException(ApiStatusCode.RESOURCE_NOT_FOUND, "결제를 찾을 수 없습니다."));
+    }
+
+    /**
+     * 1단계에서 저장한 결제 대기 건 (트랜잭션 경계를 넘어가므로 엔티티 대신 식별자만 들고 간다)
+     */
+    private record PendingCheckout(
+            Long subscriptionId,
+            String invoiceId,
+            String paymentId,
+            Long paymentMethodId,
+            String billingKey,
+            String orderName,
+            io.portone.sdk.server.common.Currency currency,
+            PaymentAmountInput amount
+    ) {
     }
 
     public GetSubscriptionResponse getMySubscription(UUID userId) {
@@ -197,32 +282,46 @@ public class SubscriptionService {
                 subscription.getId(), scheduleId, billingKey, nextPeriodStart);
     }
 
-    @Transactional
-    public void processScheduleCreation(Long subscriptionId) {
-        OutboxEvent event = outboxEventRepository.findByAggregateIdAndEventTypeAndStatus(subscriptionId, "SCHEDULE_CREATE", OutboxEventStatus.PENDING)
-                .orElse(null);
-        if (event == null) return;
-
-        Subscription subscription = subscriptionRepository.findById(subscriptionId)
-                .orElseThrow(() -> new BusinessException(ApiStatusCode.RESOURCE_NOT_FOUND, "구독을 찾을 수 없습니다."));
-        // 이미 스케줄이 생성되어 있는 경우, 중복 방지 (ex. 기본 결제 수단 변경)
-        if (subscription.getCurrentPaymentScheduleId() != null) {
-            event.markAsProcessed();
+    /**
+     * 첫 결제 예약 생성 (Outbox SCHEDULE_CREATE)
+     * PG 응답 대기 동안 DB 트랜잭션(커넥션)을 잡지 않도록 세 단계로 나눈다.
+     * 1) 청구서/결제 저장 → 2) PG 결제 예약 (트랜잭션 밖, PortOneCallLimiter 슬롯은 이 호출 동안만) → 3) scheduleId 기록
+     * 예약에 실패하면 1)에서 저장한 청구서/결제를 지우고 예외를 그대로 던진다.
+     */
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public void createFirstPaymentScheduleIfAbsent(Long subscriptionId, String billingKey) {
+        PaymentScheduleService.PendingSchedule pending =
+                transactionTemplate.execute(status -> prepareFirstPaymentSchedule(subscriptionId, billingKey));
+        if (pending == null) {
             return;
         }
 
-        String billingKey = event.extractBillingKey();
-
+        String scheduleId;
         try {
-            createFirstPaymentSchedule(subscription, billingKey);
-            event.markAsProcessed();
-        } catch (BusinessException e) {
-            if (e.getStatusCode() == ApiStatusCode.DUPLICATE_RESOURCE) {
-                log.warn("PortOne에 스케줄 존재하나 DB에 scheduleId 없음 - subscriptionId: {}", subscriptionId);
-                event.markAsFailed("PAYMENT_SCHEDULE_ALREADY_EXISTS - 수동 확인 필요");
-            }
+            scheduleId = portOneCallLimiter.call(() -> paymentScheduleService.requestSchedule(pending));
+        } catch (RuntimeException e) {
+            transactionTemplate.executeWithoutResult(status -> paymentScheduleService.discardSchedule(pending));
             throw e;
         }
+
+        transactionTemplate.executeWithoutResult(status ->
+                getSubscription(subscriptionId).setCurrentPaymentScheduleId(scheduleId));
+        log.info("첫 결제 스케줄 생성 완료 - subscriptionId: {}, scheduleId: {}, billingKey: {}, 다음 결제일: {}",
+                subscriptionId, scheduleId, billingKey, pending.timeToPay());
+    }
+
+    private PaymentScheduleService.PendingSchedule prepareFirstPaymentSchedule(Long subscriptionId, String billingKey) {
+        Subscription subscription = getSubscription(subscriptionId);
+        // 이미 스케줄이 생성되어 있는 경우, 중복 방지 (ex. 기본 결제 수단 변경)
+        if (subscription.getCurrentPaymentScheduleId() != null) {
+            return null;
+        }
+        LocalDateTime nextPeriodStart = subscription.getCurrentPeriodEnd();
+        LocalDateTime nextPeriodEnd = calculateNextPeriodEnd(
+                nextPeriodStart,
+                subscription.getSubscriptionPlan().getBillingCycle()
+        );
+        return paymentScheduleService.prepareSchedule(subscription, billingKey, nextPeriodStart, nextPeriodEnd);
     }
 
     @Transactional
@@ -31,7 +31,10 @@ public enum ApiStatusCode {
 
     // 500: 서버 오류
     INTERNAL_SERVER_ERROR(500, "INTERNAL_SERVER_ERROR", "서버 내부 오류가 발생했습니다"),
-    FILE_UPLOAD_ERROR(500, "FILE_UPLOAD_ERROR", "파일 업로드에 실패했습니다");
+    FILE_UPLOAD_ERROR(500, "FILE_UPLOAD_ERROR", "파일 업로드에 실패했습니다"),
+
+    // 503: 외부 서비스 장애
+    PAYMENT_GATEWAY_UNAVAILABLE(503, "PAYMENT_GATEWAY_UNAVAILABLE", "결제 대행사를 일시적으로 사용할 수 없습니다");
 
     private final int status;
     private final String code;
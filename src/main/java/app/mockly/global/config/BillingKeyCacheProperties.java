@@ -0,0 +1,17 @@
+package app.mockly.global.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties("billing-key-cache")
+public class BillingKeyCacheProperties {
+    private Duration ttl = Duration.ofMinutes(10); // PortOne에서 빌링키가 바뀌어도 반영되기까지의 최대 지연
+    private long maxSize = 10_000;
+}
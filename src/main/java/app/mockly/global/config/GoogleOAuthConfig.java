@@ -1,5 +1,7 @@
 package app.mockly.global.config;
 
+import app.mockly.domain.auth.service.CachedGoogleIdTokenVerifier;
+import app.mockly.domain.auth.service.GooglePublicKeyCache;
 import com.google.api.client.googleapis.auth.oauth2.GoogleIdTokenVerifier;
 import com.google.api.client.http.javanet.NetHttpTransport;
 import com.google.api.client.json.gson.GsonFactory;
@@ -12,13 +14,14 @@ import java.util.Collections;
 public class GoogleOAuthConfig {
 
     @Bean
-    public GoogleIdTokenVerifier googleIdTokenVerifier(OAuth2Properties properties) {
-        return new GoogleIdTokenVerifier.Builder(
+    public GoogleIdTokenVerifier googleIdTokenVerifier(OAuth2Properties properties, GooglePublicKeyCache publicKeyCache) {
+        // 공개키는 GooglePublicKeyCache에서 조회하므로 transport는 사용되지 않음
+        GoogleIdTokenVerifier.Builder builder = new GoogleIdTokenVerifier.Builder(
                 new NetHttpTransport(),
                 GsonFactory.getDefaultInstance()
             )
             .setAudience(Collections.singletonList(properties.getClientId()))
-            .setIssuer(properties.getIssuer())
-            .build();
+            .setIssuer(properties.getIssuer());
+        return new CachedGoogleIdTokenVerifier(builder, publicKeyCache);
     }
 }
@@ -11,6 +11,7 @@ import org.springframework.context.annotation.Configuration;
 @ConfigurationProperties("jwt")
 public class JwtProperties {
     private String secret;
+    private String previousSecret; // 키 교체 기간 동안 이전 키로 서명된 토큰도 허용
     private long accessTokenExpiration;
     private long refreshTokenExpiration;
 }
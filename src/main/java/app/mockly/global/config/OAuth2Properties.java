@@ -14,4 +14,6 @@ public class OAuth2Properties {
     private String clientSecret;
     private String tokenUri;
     private String issuer;
+    private String certsUri = "https://www.googleapis.com/oauth2/v3/certs"; // Google 공개키(JWKS)
+    private boolean prewarmPublicKeys = true; // 기동 시 공개키 미리 조회
 }
@@ -0,0 +1,38 @@
+package app.mockly.global.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties("outbox")
+public class OutboxProperties {
+    private Duration pollInterval = Duration.ofSeconds(30); // 커밋 직후 깨우기를 놓친 이벤트용 안전망 주기
+    private int batchSize = 50; // 한 번에 선점하는 최대 이벤트 수
+    private int workerThreads = 8;
+    private int queueCapacity = 100; // 워커 대기열, 가득 차면 선점을 멈춘다
+    private Duration lease = Duration.ofMinutes(5); // 선점 후 처리하지 못하면 다른 노드가 가져갈 수 있는 시간
+    private int maxRetryCount = 5;
+    private Duration retryBaseDelay = Duration.ofSeconds(30); // 첫 재시도 지연, 이후 2배씩 증가
+    private Duration retryMaxDelay = Duration.ofHours(1);
+    private int defaultHandlerConcurrency = 4; // 핸들러(eventType)별 동시 처리 수
+    private Map<String, Integer> handlerConcurrency = new HashMap<>(); // eventType별 재정의
+    private int laneCount = 16; // aggregate 해시로 나누는 순서 보장 lane 수, 같은 lane 안에서는 한 번에 하나씩
+    private Duration orderingDeferDelay = Duration.ofSeconds(5); // 앞선 이벤트를 다른 노드가 처리 중일 때 미루는 시간
+    private String compactionCron = "0 30 4 * * *"; // PROCESSED 이벤트 보관 작업 주기
+    private Duration archiveAfter = Duration.ofDays(7); // 처리 완료 후 이 기간이 지나면 보관 테이블로 이동
+    private int compactionChunkSize = 1000; // 트랜잭션 하나에서 옮기는 최대 행 수
+    private Duration metricsRefreshInterval = Duration.ofSeconds(15); // 대기 건수/경과 시간 지표 갱신 주기
+    private Duration backlogAgeThreshold = Duration.ofMinutes(15); // 가장 오래된 대기 이벤트가 이보다 오래되면 health DEGRADED
+
+    public int concurrencyOf(String eventType) {
+        return handlerConcurrency.getOrDefault(eventType, defaultHandlerConcurrency);
+    }
+}
@@ -0,0 +1,19 @@
+package app.mockly.global.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties("past-due-expiration")
+public class PastDueExpirationProperties {
+    private String cron = "0 0 3 * * *";
+    private Duration gracePeriod = Duration.ofDays(7); // PAST_DUE 전환 후 만료까지 유예 기간
+    private int chunkSize = 100; // 한 번에 조회하고 진행 위치를 기록하는 구독 수
+    private int revokeBatchSize = 50; // 결제 예약 일괄 취소 한 번에 보내는 scheduleId 수
+}
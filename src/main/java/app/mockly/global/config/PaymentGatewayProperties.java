@@ -0,0 +1,36 @@
+package app.mockly.global.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties("payment-gateway")
+public class PaymentGatewayProperties {
+    private String type = "portone"; // portone | simulator (부하 테스트용 프로세스 내 가상 PG)
+    private Simulator simulator = new Simulator();
+
+    public enum LatencyDistribution {
+        FIXED, // 항상 latency-median
+        LOG_NORMAL // 중앙값 latency-median, 99퍼센타일 latency-p99인 로그 정규 분포 (긴 꼬리)
+    }
+
+    @Getter
+    @Setter
+    public static class Simulator {
+        private LatencyDistribution latencyDistribution = LatencyDistribution.LOG_NORMAL;
+        private Duration latencyMedian = Duration.ofMillis(150);
+        private Duration latencyP99 = Duration.ofMillis(800);
+        private double errorRate = 0.0; // 통신 오류로 실패하는 호출 비율 (서킷 브레이커 실패로 집계)
+        private double timeoutRate = 0.0; // 응답하지 않는 호출 비율 (PortOneService 타임아웃까지 대기)
+        private double declineRate = 0.0; // 카드 승인이 거절되는 결제 비율 (즉시 결제, 예약 결제)
+        private Duration scheduleFireDelay; // 설정하면 예약 시각 대신 예약 생성 후 이 시간 뒤에 결제 실행
+        private Duration webhookDelay = Duration.ofMillis(100); // 결제 후 웹훅 전송까지 지연
+        private Long seed; // 고정하면 같은 호출 순서에 같은 지연/실패 결과 (재현 가능한 벤치마크)
+    }
+}
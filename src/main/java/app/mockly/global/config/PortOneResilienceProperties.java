@@ -0,0 +1,23 @@
+package app.mockly.global.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties("portone.resilience")
+public class PortOneResilienceProperties {
+    private int slidingWindowSize = 20; // 실패율을 계산할 최근 호출 수 (API별)
+    private int minimumCalls = 10; // 실패율을 판단하기 위한 최소 호출 수
+    private int failureRateThreshold = 50; // 이 비율(%) 이상 실패하면 서킷 OPEN
+    private Duration slowCallThreshold = Duration.ofSeconds(5); // 이보다 오래 걸린 호출은 실패로 집계
+    private Duration openDuration = Duration.ofSeconds(30); // OPEN 유지 시간, 이후 HALF_OPEN으로 시험 호출
+    private int halfOpenCalls = 3; // HALF_OPEN에서 허용하는 시험 호출 수
+    private int maxConcurrentCalls = 32; // 인스턴스 전체에서 동시에 진행 중일 수 있는 PortOne 호출 수 (bulkhead)
+    private Duration maxWait = Duration.ofMillis(200); // bulkhead 슬롯을 기다리는 최대 시간
+}
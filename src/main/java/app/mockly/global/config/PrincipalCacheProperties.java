@@ -0,0 +1,17 @@
+package app.mockly.global.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties("principal-cache")
+public class PrincipalCacheProperties {
+    private Duration ttl = Duration.ofMinutes(1); // 다른 노드에서 발생한 구독 변경이 반영되기까지의 최대 지연
+    private long maxSize = 10_000;
+}
@@ -0,0 +1,25 @@
+package app.mockly.global.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties("scheduler-lock")
+public class SchedulerLockProperties {
+    private boolean enabled = true; // false면 잠금 없이 노드마다 실행 (단일 노드 개발 환경, 테스트)
+    private String keyPrefix = "scheduler-lock:";
+    private Duration defaultLeaseTime = Duration.ofMinutes(5); // 작업이 연장하지 않으면 이 시간 뒤 다른 노드가 가져갈 수 있음
+    private Map<String, Duration> leaseTimes = new HashMap<>(); // 작업 이름별 재정의
+
+    public Duration leaseTimeOf(String jobName) {
+        return leaseTimes.getOrDefault(jobName, defaultLeaseTime);
+    }
+}
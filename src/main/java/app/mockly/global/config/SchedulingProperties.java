@@ -0,0 +1,18 @@
+package app.mockly.global.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties("scheduling")
+public class SchedulingProperties {
+    private int poolSize = 4; // 동시에 실행될 수 있는 @Scheduled 작업 수 (가상 스레드)
+    private int portOneConcurrency = 8; // 배치 작업 전체에서 동시에 보내는 PortOne 호출 수
+    private Duration portOneAcquireTimeout = Duration.ofMinutes(1); // 호출 슬롯을 기다리는 최대 시간
+}
@@ -0,0 +1,18 @@
+package app.mockly.global.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties("session-access")
+public class SessionAccessProperties {
+    private Duration flushInterval = Duration.ofSeconds(5);
+    private int maxPending = 50_000; // 대기 중인 세션 수 상한, 초과 시 새 세션의 갱신은 버린다
+    private int batchSize = 500;
+}
@@ -0,0 +1,14 @@
+package app.mockly.global.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties("session")
+public class SessionProperties {
+    private int maxSessions = 2; // 구독 상품에 max_sessions가 없을 때 적용
+}
@@ -0,0 +1,20 @@
+package app.mockly.global.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties("token-blacklist")
+public class TokenBlacklistProperties {
+    private String channel = "blacklist:events"; // 로그아웃 전파용 Redis pub/sub 채널
+    private long localCacheMaxSize = 100_000;
+    private Duration negativeCacheTtl = Duration.ofSeconds(30); // "블랙리스트 아님" 결과를 로컬에 유지하는 시간
+    private long bloomExpectedInsertions = 100_000; // 창(Access Token TTL) 하나당 예상 로그아웃 수
+    private double bloomFalsePositiveRate = 0.01;
+}
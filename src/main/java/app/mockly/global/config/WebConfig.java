@@ -2,12 +2,30 @@ package app.mockly.global.config;
 
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.JdkClientHttpRequestFactory;
 import org.springframework.web.client.RestClient;
 
+import java.net.http.HttpClient;
+
 @Configuration
 public class WebConfig {
+    /**
+     * 외부 API 호출용 공용 HTTP 클라이언트 (커넥션 풀링, keep-alive)
+     */
+    @Bean
+    public HttpClient httpClient(HttpClientProperties properties) {
+        return HttpClient.newBuilder()
+                .connectTimeout(properties.getConnectTimeout())
+                .followRedirects(HttpClient.Redirect.NORMAL)
+                .build();
+    }
+
     @Bean
-    public RestClient restClient() {
-        return RestClient.create();
+    public RestClient restClient(HttpClient httpClient, HttpClientProperties properties) {
+        JdkClientHttpRequestFactory requestFactory = new JdkClientHttpRequestFactory(httpClient);
+        requestFactory.setReadTimeout(properties.getReadTimeout());
+        return RestClient.builder()
+                .requestFactory(requestFactory)
+                .build();
     }
 }
@@ -0,0 +1,17 @@
+package app.mockly.global.scheduling;
+
+/**
+ * 작업 실행 권한
+ * @param fencingToken 획득할 때마다 증가하는 번호, 잠금을 쓰지 않으면 null
+ *                     lease가 만료된 뒤 늦게 도착한 쓰기를 막으려면 저장소에서 이 값이 가장 큰지 확인한다.
+ */
+public record SchedulerLease(String jobName, String owner, Long fencingToken) {
+
+    public static SchedulerLease local(String jobName) {
+        return new SchedulerLease(jobName, "local", null);
+    }
+
+    public boolean isLocal() {
+        return fencingToken == null;
+    }
+}
@@ -0,0 +1,213 @@
+package app.mockly.global.scheduling;
+
+import app.mockly.global.config.SchedulerLockProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+/**
+ * 스케줄 작업용 Redis lease 잠금 (클러스터에서 작업 한 번의 실행은 한 노드만)
+ * - 획득: SET NX PX + 펜싱 토큰 INCR를 스크립트 하나로 실행
+ * - 해제/연장: 값이 자기 owner일 때만 (만료 후 다른 노드가 가져간 잠금을 건드리지 않음)
+ * - 펜싱 카운터는 영속되지 않으므로 (appendonly 없음, FLUSH) 저장소에 기록된 토큰보다 뒤처질 수 있다.
+ *   잠금을 쥔 실행이 이를 발견하면 advanceFence로 카운터를 기록된 토큰 이후로 올린다.
+ * - scheduler.lock.acquire{job, result=acquired|busy|error}, scheduler.lock.held{job},
+ *   scheduler.lock.fence.rejected{job} (저장소가 토큰을 거부한 횟수)
+ */
+@Slf4j
+@Component
+public class SchedulerLock {
+    private static final RedisScript<Long> ACQUIRE_SCRIPT = RedisScript.of("""
+            if redis.call('SET', KEYS[1], ARGV[1], 'NX', 'PX', ARGV[2]) then
+                return redis.call('INCR', KEYS[2])
+            end
+            return 0
+            """, Long.class);
+    private static final RedisScript<Long> RELEASE_SCRIPT = RedisScript.of("""
+            if redis.call('GET', KEYS[1]) == ARGV[1] then
+                return redis.call('DEL', KEYS[1])
+            end
+            return 0
+            """, Long.class);
+    private static final RedisScript<Long> EXTEND_SCRIPT = RedisScript.of("""
+            if redis.call('GET', KEYS[1]) == ARGV[1] then
+                return redis.call('PEXPIRE', KEYS[1], ARGV[2])
+            end
+            return 0
+            """, Long.class);
+
+    private static final RedisScript<Long> ADVANCE_FENCE_SCRIPT = RedisScript.of("""
+            if redis.call('GET', KEYS[1]) == ARGV[1] then
+                local current = tonumber(redis.call('GET', KEYS[2]) or '0')
+                local token = math.max(current, tonumber(ARGV[2])) + 1
+                redis.call('SET', KEYS[2], token)
+                return token
+            end
+            return 0
+            """, Long.class);
+
+    public enum OnLockError {
+        SKIP, // 잠금 상태를 알 수 없으면 실행하지 않음 (중복 실행이 외부 호출로 이어지는 작업)
+        RUN   // 잠금 없이 실행 (중복 실행해도 안전한 작업)
+    }
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final SchedulerLockProperties properties;
+    private final MeterRegistry meterRegistry;
+    private final String nodeId = resolveNodeId();
+
+    public SchedulerLock(RedisTemplate<String, String> redisTemplate,
+                         SchedulerLockProperties properties,
+                         MeterRegistry meterRegistry) {
+        this.redisTemplate = redisTemplate;
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+    }
+
+    /**
+     * 잠금을 얻은 경우에만 작업을 실행하고 끝나면 해제
+     * @return 작업을 실행했는지 여부
+     */
+    public boolean runExclusively(String jobName, OnLockError onLockError, Consumer<SchedulerLease> task) {
+        if (!properties.isEnabled()) {
+            task.accept(SchedulerLease.local(jobName));
+            return true;
+        }
+
+        Optional<SchedulerLease> acquired;
+        try {
+            acquired = tryAcquire(jobName);
+        } catch (Exception e) {
+            if (onLockError == OnLockError.SKIP) {
+                log.error("스케줄 잠금 확인 실패, 실행 생략 - job: {}", jobName, e);
+                return false;
+            }
+            log.warn("스케줄 잠금 확인 실패, 잠금 없이 실행 - job: {}", jobName, e);
+            task.accept(SchedulerLease.local(jobName));
+            return true;
+        }
+        if (acquired.isEmpty()) {
+            log.debug("다른 노드가 실행 중 - job: {}", jobName);
+            return false;
+        }
+
+        SchedulerLease lease = acquired.get();
+        Timer.Sample held = Timer.start(meterRegistry);
+        try {
+            task.accept(lease);
+            return true;
+        } finally {
+            held.stop(Timer.builder("scheduler.lock.held")
+                    .tag("job", jobName)
+                    .register(meterRegistry));
+            release(lease);
+        }
+    }
+
+    public Optional<SchedulerLease> tryAcquire(String jobName) {
+        String owner = nodeId + ":" + UUID.randomUUID();
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String result = "error";
+        try {
+            Long token = redisTemplate.execute(ACQUIRE_SCRIPT, List.of(lockKey(jobName), fenceKey(jobName)),
+                    owner, String.valueOf(properties.leaseTimeOf(jobName).toMillis()));
+            if (token == null || token == 0L) {
+                result = "busy";
+                return Optional.empty();
+            }
+            result = "acquired";
+            return Optional.of(new SchedulerLease(jobName, owner, token));
+        } finally {
+            sample.stop(Timer.builder("scheduler.lock.acquire")
+                    .tag("job", jobName)
+                    .tag("result", result)
+                    .register(meterRegistry));
+        }
+    }
+
+    /**
+     * lease 연장, 이미 만료되어 다른 노드가 가져갔으면 false (작업을 멈춰야 함)
+     */
+    public boolean extend(SchedulerLease lease) {
+        if (lease.isLocal()) {
+            return true;
+        }
+        try {
+            Long extended = redisTemplate.execute(EXTEND_SCRIPT, List.of(lockKey(lease.jobName())),
+                    lease.owner(), String.valueOf(properties.leaseTimeOf(lease.jobName()).toMillis()));
+            return extended != null && extended == 1L;
+        } catch (Exception e) {
+            log.warn("스케줄 잠금 연장 실패 - job: {}", lease.jobName(), e);
+            return false;
+        }
+    }
+
+    /**
+     * 펜싱 카운터를 저장소에 기록된 토큰 이후로 올리고 새 토큰의 lease 반환
+     * 잠금을 아직 쥐고 있을 때만 (이미 잃었으면 empty)
+     */
+    public Optional<SchedulerLease> advanceFence(SchedulerLease lease, long storedToken) {
+        if (lease.isLocal()) {
+            return Optional.of(lease);
+        }
+        try {
+            Long token = redisTemplate.execute(ADVANCE_FENCE_SCRIPT, List.of(lockKey(lease.jobName()), fenceKey(lease.jobName())),
+                    lease.owner(), String.valueOf(storedToken));
+            if (token == null || token == 0L) {
+                return Optional.empty();
+            }
+            log.warn("펜싱 카운터를 기록된 토큰 이후로 올림 - job: {}, 토큰: {} -> {}", lease.jobName(), lease.fencingToken(), token);
+            return Optional.of(new SchedulerLease(lease.jobName(), lease.owner(), token));
+        } catch (Exception e) {
+            log.warn("펜싱 카운터 갱신 실패 - job: {}", lease.jobName(), e);
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * 저장소가 lease의 토큰을 거부함 (늦게 도착한 쓰기 또는 펜싱 카운터가 되돌아감)
+     */
+    public void reportRejected(SchedulerLease lease, Long storedToken) {
+        log.error("펜싱 토큰 거부 - job: {}, 토큰: {}, 기록된 토큰: {}", lease.jobName(), lease.fencingToken(), storedToken);
+        meterRegistry.counter("scheduler.lock.fence.rejected", "job", lease.jobName()).increment();
+    }
+
+    public void release(SchedulerLease lease) {
+        if (lease.isLocal()) {
+            return;
+        }
+        try {
+            redisTemplate.execute(RELEASE_SCRIPT, List.of(lockKey(lease.jobName())), lease.owner());
+        } catch (Exception e) {
+            // 해제하지 못해도 lease 시간이 지나면 풀린다
+            log.warn("스케줄 잠금 해제 실패 - job: {}", lease.jobName(), e);
+        }
+    }
+
+    private String lockKey(String jobName) {
+        return properties.getKeyPrefix() + jobName;
+    }
+
+    private String fenceKey(String jobName) {
+        return properties.getKeyPrefix() + jobName + ":fence";
+    }
+
+    private static String resolveNodeId() {
+        try {
+            return InetAddress.getLocalHost().getHostName();
+        } catch (UnknownHostException e) {
+            return "unknown";
+        }
+    }
+}
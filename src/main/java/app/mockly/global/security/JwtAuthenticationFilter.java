@@ -1,6 +1,9 @@
 package app.mockly.global.security;
 
+import app.mockly.domain.auth.dto.AccessTokenClaims;
+import app.mockly.domain.auth.dto.AuthenticatedUser;
 import app.mockly.domain.auth.service.JwtService;
+import app.mockly.domain.auth.service.PrincipalService;
 import app.mockly.domain.auth.service.TokenBlacklistService;
 import app.mockly.global.common.ApiStatusCode;
 import app.mockly.global.exception.InvalidTokenException;
@@ -10,6 +13,8 @@ import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Component;
 import org.springframework.util.StringUtils;
@@ -18,13 +23,16 @@ import org.springframework.web.servlet.HandlerExceptionResolver;
 
 import java.io.IOException;
 import java.util.Collections;
-import java.util.UUID;
+import java.util.List;
 
 @Component
 @RequiredArgsConstructor
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
+    private static final GrantedAuthority ADMIN_AUTHORITY = new SimpleGrantedAuthority("ROLE_ADMIN");
+
     private final JwtService jwtService;
     private final TokenBlacklistService tokenBlacklistService;
+    private final PrincipalService principalService;
     private final HandlerExceptionResolver handlerExceptionResolver;
 
     @Override
@@ -33,14 +41,16 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
         if (token != null) {
             try {
-                if (tokenBlacklistService.isBlacklisted(token)) {
+                AccessTokenClaims claims = jwtService.parseAccessToken(token);
+                if (tokenBlacklistService.isBlacklisted(claims)) {
                     throw new InvalidTokenException(ApiStatusCode.EXPIRED_TOKEN, "로그아웃된 토큰입니다.");
                 }
-                UUID userId = jwtService.validateAccessToken(token);
+                AuthenticatedUser user = principalService.load(claims.userId());
 
-                // TODO: 추후 권한 설정
+                // principal은 기존처럼 userId, 구독 플랜/권한 정보는 details로 전달
                 UsernamePasswordAuthenticationToken authentication
-                        = new UsernamePasswordAuthenticationToken(userId, null, Collections.emptyList());
+                        = new UsernamePasswordAuthenticationToken(user.userId(), null, authoritiesOf(user));
+                authentication.setDetails(user);
                 SecurityContextHolder.getContext().setAuthentication(authentication);
             } catch (Exception e) {
                 SecurityContextHolder.clearContext();
@@ -52,6 +62,14 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         filterChain.doFilter(request, response);
     }
 
+    private List<GrantedAuthority> authoritiesOf(AuthenticatedUser user) {
+        // 이메일이 아닌 DB에 저장된 역할로 판단 (개발용 로그인은 임의 이메일로 사용자를 만들 수 있음)
+        if (user.admin()) {
+            return List.of(ADMIN_AUTHORITY);
+        }
+        return Collections.emptyList();
+    }
+
     private String extractToken(HttpServletRequest request) {
         String bearerToken = request.getHeader("Authorization");
         if (StringUtils.hasText(bearerToken) && bearerToken.startsWith("Bearer ")) {
@@ -35,12 +35,16 @@ import java.util.UUID;
 
 import app.mockly.domain.auth.controller.docs.AuthMeDocs;
 import app.mockly.domain.auth.controller.docs.LoginWithGoogleCodeDocs;
+import app.mockly.domain.auth.controller.docs.LogoutAllDocs;
 import app.mockly.domain.auth.controller.docs.LogoutDocs;
 import app.mockly.domain.auth.controller.docs.RefreshTokenDocs;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.verify;
 import static com.epages.restdocs.apispec.MockMvcRestDocumentationWrapper.document;
 import static com.epages.restdocs.apispec.ResourceDocumentation.resource;
 import static org.springframework.restdocs.mockmvc.RestDocumentationRequestBuilders.get;
@@ -105,15 +109,12 @@ class AuthControllerTest {
         locationInfo = new LocationInfo(37.0, 127.0);
         validSession = sessionRepository.save(Session.create(testUser, deviceInfo, locationInfo));
 
-        RefreshToken refreshToken = RefreshToken.builder()
-                .token(validRefreshTokenValue)
-                .expiresAt(Instant.now().plusMillis(604800000))
-                .build();
+        RefreshToken refreshToken = RefreshToken.create(validRefreshTokenValue, Instant.now().plusMillis(604800000));
         refreshToken = refreshTokenRepository.save(refreshToken);
         validSession.updateRefreshToken(refreshToken);
 
         // TokenBlacklistService 모킹 - 모든 토큰을 블랙리스트에 없다고 응답
-        given(tokenBlacklistService.isBlacklisted(anyString())).willReturn(false);
+        given(tokenBlacklistService.isBlacklisted(any())).willReturn(false);
     }
 
     @Test
@@ -253,4 +254,28 @@ class AuthControllerTest {
                         resource(LogoutDocs.success())
                 ));
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("POST /api/auth/logout-all - 성공")
+    void logoutAll_Success() throws Exception {
+        mockMvc.perform(post("/api/auth/logout-all")
+                        .header("Authorization", "Bearer " + validAccessToken))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.success").value(true))
+                .andExpect(jsonPath("$.data").doesNotExist())
+                .andDo(document("auth-logout-all",
+                        resource(LogoutAllDocs.success())
+                ));
+
+        verify(tokenBlacklistService).revokeAllIssuedBefore(eq(testUser.getId()), any());
+        assertThat(refreshTokenRepository.findByToken(validRefreshTokenValue)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("POST /api/auth/logout-all - 실패: 토큰 없음")
+    void logoutAll_NoToken() throws Exception {
+        mockMvc.perform(post("/api/auth/logout-all"))
+                .andExpect(status().isUnauthorized());
+    }
+}
@@ -0,0 +1,20 @@
+package app.mockly.domain.auth.controller.docs;
+
+import app.mockly.common.ApiResponseDocs;
+import com.epages.restdocs.apispec.ResourceSnippetParameters;
+
+import static org.springframework.restdocs.headers.HeaderDocumentation.headerWithName;
+
+public class LogoutAllDocs {
+
+    public static ResourceSnippetParameters success() {
+        return ResourceSnippetParameters.builder()
+                .summary("모든 기기에서 로그아웃")
+                .description("사용자의 모든 Refresh Token을 삭제하고, 지금까지 발급된 Access Token을 모두 폐기합니다. 이후 발급된 토큰(재로그인)은 유효합니다.")
+                .requestHeaders(
+                        headerWithName("Authorization").description("Bearer {accessToken}")
+                )
+                .responseFields(ApiResponseDocs.noContentFields())
+                .build();
+    }
+}
@@ -4,10 +4,15 @@ import app.mockly.domain.auth.dto.DeviceInfo;
 import app.mockly.domain.auth.dto.LocationInfo;
 import app.mockly.domain.auth.dto.request.DevLoginRequest;
 import app.mockly.domain.auth.dto.response.LoginResponse;
+import app.mockly.domain.auth.dto.response.RefreshTokenResponse;
+import app.mockly.domain.auth.entity.OAuth2Provider;
+import app.mockly.domain.auth.entity.RefreshToken;
 import app.mockly.domain.auth.entity.Session;
+import app.mockly.domain.auth.entity.User;
 import app.mockly.domain.auth.repository.RefreshTokenRepository;
 import app.mockly.domain.auth.repository.SessionRepository;
 import app.mockly.domain.auth.repository.UserRepository;
+import app.mockly.global.security.TokenDigest;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -15,11 +20,19 @@ import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
+import java.util.UUID;
 
 import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
-import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.verify;
 
 @SpringBootTest
 @Transactional
@@ -49,7 +62,7 @@ public class AuthServiceIntegrationTest {
         LocationInfo locationInfo = new LocationInfo(37.5, 127.0);
         DevLoginRequest request = new DevLoginRequest(email, "test user", deviceInfo, locationInfo);
 
-        given(tokenBlacklistService.isBlacklisted(anyString())).willReturn(false);
+        given(tokenBlacklistService.isBlacklisted(any())).willReturn(false);
 
         // 1) 로그인
         LoginResponse loginResponse1 = authService.loginWithDev(request);
@@ -79,7 +92,7 @@ public class AuthServiceIntegrationTest {
         LocationInfo locationInfo = new LocationInfo(37.5, 127.0);
         DevLoginRequest request = new DevLoginRequest(email, "test user", deviceInfo, locationInfo);
 
-        given(tokenBlacklistService.isBlacklisted(anyString())).willReturn(false);
+        given(tokenBlacklistService.isBlacklisted(any())).willReturn(false);
 
         // 1) 로그인
         LoginResponse loginResponse1 = authService.loginWithDev(request);
@@ -97,4 +110,81 @@ public class AuthServiceIntegrationTest {
         assertThat(refreshTokenRepository.findByToken(refreshToken1)).isEmpty();
         assertThat(refreshTokenRepository.findByToken(refreshToken2)).isPresent();
     }
+
+    @Test
+    @DisplayName("모든 기기에서 로그아웃 시, 모든 Refresh Token 삭제 및 Access Token 워터마크 기록")
+    void logout_all_deletes_refresh_tokens_and_revokes_access_tokens() {
+        String email = "logout-all@example.com";
+        LocationInfo locationInfo = new LocationInfo(37.5, 127.0);
+        LoginResponse phone = authService.loginWithDev(
+                new DevLoginRequest(email, "test user", new DeviceInfo("phone", "phone"), locationInfo));
+        LoginResponse laptop = authService.loginWithDev(
+                new DevLoginRequest(email, "test user", new DeviceInfo("laptop", "laptop"), locationInfo));
+        UUID userId = userRepository.findByEmail(email).get().getId();
+        Instant before = Instant.now();
+
+        authService.logoutAll(userId);
+
+        assertThat(refreshTokenRepository.findByToken(phone.refreshToken())).isEmpty();
+        assertThat(refreshTokenRepository.findByToken(laptop.refreshToken())).isEmpty();
+        verify(tokenBlacklistService).revokeAllIssuedBefore(eq(userId), argThat(at -> !at.isBefore(before)));
+    }
+
+    @Test
+    @DisplayName("최대 세션 수를 넘으면 가장 최근에 발급된 Refresh Token keep개만 남기고 삭제")
+    void deletes_all_but_most_recent_refresh_tokens() {
+        User user = userRepository.save(User.builder()
+                .email("max-sessions@example.com")
+                .name("test user")
+                .provider(OAuth2Provider.GOOGLE)
+                .providerId("max-sessions-provider-id")
+                .build());
+        int keep = 2;
+        List<String> tokens = new ArrayList<>(); // 발급 순서
+        for (int i = 0; i < keep + 3; i++) {
+            Session session = sessionRepository.save(Session.create(user, new DeviceInfo("device-" + i, "device " + i), null));
+            String value = UUID.randomUUID().toString();
+            session.updateRefreshToken(RefreshToken.create(value, Instant.now().plus(Duration.ofDays(1))));
+            refreshTokenRepository.flush();
+            tokens.add(value);
+        }
+
+        int deleted = refreshTokenRepository.deleteAllExceptMostRecent(user.getId(), keep, Instant.now());
+
+        assertThat(deleted).isEqualTo(tokens.size() - keep);
+        for (int i = 0; i < tokens.size(); i++) {
+            boolean newest = i >= tokens.size() - keep;
+            assertThat(refreshTokenRepository.findByToken(tokens.get(i)).isPresent()).isEqualTo(newest);
+        }
+        assertThat(sessionRepository.findAll().stream()
+                .filter(session -> session.getUser().getId().equals(user.getId()))
+                .count()).isEqualTo(tokens.size());
+    }
+
+    @Test
+    @DisplayName("이전 버전이 원문 컬럼에만 저장한 Refresh Token도 조회되고, 조회 시 digest가 채워진다")
+    void finds_legacy_token_and_backfills_digest() {
+        String email = "legacy@example.com";
+        String deviceId = "test-device-789";
+        DeviceInfo deviceInfo = new DeviceInfo(deviceId, "test device");
+        LocationInfo locationInfo = new LocationInfo(37.5, 127.0);
+        authService.loginWithDev(new DevLoginRequest(email, "test user", deviceInfo, locationInfo));
+        Session session = sessionRepository.findByUserAndDeviceId(userRepository.findByEmail(email).get(), deviceId).get();
+
+        // 이전 버전 노드가 발급한 토큰 (token_hash 없이 원문만)
+        String legacyValue = UUID.randomUUID().toString();
+        session.updateRefreshToken(RefreshToken.builder()
+                .legacyToken(legacyValue)
+                .expiresAt(Instant.now().plus(Duration.ofDays(1)))
+                .build());
+        refreshTokenRepository.flush();
+
+        RefreshToken found = refreshTokenRepository.findByToken(legacyValue).orElseThrow();
+        assertThat(found.getTokenHash()).isEqualTo(TokenDigest.sha256(legacyValue));
+        assertThat(found.getLegacyToken()).isEqualTo(legacyValue);
+
+        RefreshTokenResponse response = authService.refreshToken(legacyValue, deviceId, locationInfo);
+        assertThat(response.refreshToken()).isNotEqualTo(legacyValue);
+        assertThat(refreshTokenRepository.findByToken(legacyValue)).isEmpty();
+    }
 }
@@ -0,0 +1,112 @@
+package app.mockly.domain.auth.service;
+
+import app.mockly.global.config.OAuth2Properties;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.client.RestClient;
+
+import java.math.BigInteger;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.security.KeyPairGenerator;
+import java.security.PublicKey;
+import java.security.interfaces.RSAPublicKey;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("GooglePublicKeyCache 테스트")
+class GooglePublicKeyCacheTest {
+    private HttpServer stubServer;
+    private ExecutorService stubExecutor;
+    private final AtomicInteger requestCount = new AtomicInteger();
+    private RSAPublicKey publicKey;
+    private GooglePublicKeyCache publicKeyCache;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        KeyPairGenerator generator = KeyPairGenerator.getInstance("RSA");
+        generator.initialize(2048);
+        publicKey = (RSAPublicKey) generator.generateKeyPair().getPublic();
+        byte[] jwks = """
+                {"keys":[{"kty":"RSA","alg":"RS256","kid":"test","n":"%s","e":"%s"}]}
+                """.formatted(encode(publicKey.getModulus()), encode(publicKey.getPublicExponent()))
+                .getBytes(StandardCharsets.UTF_8);
+
+        stubServer = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        stubExecutor = Executors.newFixedThreadPool(4);
+        stubServer.setExecutor(stubExecutor);
+        stubServer.createContext("/certs", exchange -> {
+            requestCount.incrementAndGet();
+            try {
+                Thread.sleep(200); // 동시 요청이 겹치도록 지연
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            exchange.getResponseHeaders().add("Cache-Control", "public, max-age=3600, must-revalidate");
+            exchange.sendResponseHeaders(200, jwks.length);
+            exchange.getResponseBody().write(jwks);
+            exchange.close();
+        });
+        stubServer.start();
+
+        OAuth2Properties properties = new OAuth2Properties();
+        properties.setCertsUri("http://localhost:" + stubServer.getAddress().getPort() + "/certs");
+        publicKeyCache = new GooglePublicKeyCache(RestClient.create(), properties);
+    }
+
+    @AfterEach
+    void tearDown() {
+        stubServer.stop(0);
+        stubExecutor.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("JWKS의 RSA 공개키를 조회하고 max-age 동안 재사용")
+    void getPublicKeys_CachesUntilMaxAge() throws Exception {
+        List<PublicKey> keys = publicKeyCache.getPublicKeys();
+        publicKeyCache.getPublicKeys();
+        publicKeyCache.refreshIfStale();
+
+        assertThat(keys).containsExactly(publicKey);
+        assertThat(requestCount.get()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("동시에 캐시가 비어있어도 공개키 조회는 한 번만 수행")
+    void getPublicKeys_ConcurrentColdStart_FetchesOnce() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(16);
+        try {
+            List<Future<List<PublicKey>>> results = new ArrayList<>();
+            for (int i = 0; i < 16; i++) {
+                results.add(executor.submit(publicKeyCache::getPublicKeys));
+            }
+            for (Future<List<PublicKey>> result : results) {
+                assertThat(result.get()).containsExactly(publicKey);
+            }
+        } finally {
+            executor.shutdown();
+        }
+
+        assertThat(requestCount.get()).isEqualTo(1);
+    }
+
+    private String encode(BigInteger value) {
+        byte[] bytes = value.toByteArray();
+        if (bytes[0] == 0) {
+            bytes = Arrays.copyOfRange(bytes, 1, bytes.length);
+        }
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+    }
+}
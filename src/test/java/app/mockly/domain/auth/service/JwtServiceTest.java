@@ -0,0 +1,68 @@
+package app.mockly.domain.auth.service;
+
+import app.mockly.global.config.JwtProperties;
+import app.mockly.global.exception.InvalidTokenException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("JwtService 테스트")
+class JwtServiceTest {
+    private static final String OLD_SECRET = "old-secret-key-for-jwt-authentication-at-least-32-characters";
+    private static final String NEW_SECRET = "new-secret-key-for-jwt-authentication-at-least-32-characters";
+
+    private JwtProperties jwtProperties;
+    private JwtService jwtService;
+
+    @BeforeEach
+    void setUp() {
+        jwtProperties = new JwtProperties();
+        jwtProperties.setSecret(OLD_SECRET);
+        jwtProperties.setAccessTokenExpiration(900000);
+        jwtService = new JwtService(jwtProperties);
+    }
+
+    @Test
+    @DisplayName("키 교체 후에도 이전 키로 서명된 토큰을 검증")
+    void validateAccessToken_SignedWithPreviousKey_ReturnsUserId() {
+        UUID userId = UUID.randomUUID();
+        String token = jwtService.generateAccessToken(userId);
+
+        jwtProperties.setSecret(NEW_SECRET);
+        jwtProperties.setPreviousSecret(OLD_SECRET);
+
+        assertThat(jwtService.validateAccessToken(token)).isEqualTo(userId);
+        assertThat(jwtService.validateAccessToken(jwtService.generateAccessToken(userId))).isEqualTo(userId);
+    }
+
+    @Test
+    @DisplayName("발급 시각은 jti에서 밀리초 단위로 읽는다 (iat는 초 단위)")
+    void parseAccessToken_IssuedAtHasMillisecondPrecision() {
+        Instant before = Instant.now().truncatedTo(ChronoUnit.MILLIS);
+        String token = jwtService.generateAccessToken(UUID.randomUUID());
+        Instant after = Instant.now();
+
+        Instant issuedAt = jwtService.parseAccessToken(token).issuedAt();
+
+        assertThat(issuedAt).isBetween(before, after);
+        assertThat(issuedAt.getNano() % 1_000_000).isZero();
+    }
+
+    @Test
+    @DisplayName("이전 키가 설정되지 않으면 교체 전 토큰은 유효하지 않음")
+    void validateAccessToken_WithoutPreviousKey_ThrowsInvalidTokenException() {
+        String token = jwtService.generateAccessToken(UUID.randomUUID());
+
+        jwtProperties.setSecret(NEW_SECRET);
+
+        assertThatThrownBy(() -> jwtService.validateAccessToken(token))
+                .isInstanceOf(InvalidTokenException.class);
+    }
+}
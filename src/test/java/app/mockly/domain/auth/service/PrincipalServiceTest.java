@@ -0,0 +1,125 @@
+package app.mockly.domain.auth.service;
+
+import app.mockly.domain.auth.dto.AuthenticatedUser;
+import app.mockly.domain.auth.entity.OAuth2Provider;
+import app.mockly.domain.auth.entity.User;
+import app.mockly.domain.auth.repository.UserRepository;
+import app.mockly.domain.product.entity.BillingCycle;
+import app.mockly.domain.product.entity.Currency;
+import app.mockly.domain.product.entity.Subscription;
+import app.mockly.domain.product.entity.SubscriptionPlan;
+import app.mockly.domain.product.entity.SubscriptionProduct;
+import app.mockly.domain.product.repository.SubscriptionPlanRepository;
+import app.mockly.domain.product.repository.SubscriptionProductRepository;
+import app.mockly.domain.product.repository.SubscriptionRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@DisplayName("PrincipalService 캐시 테스트")
+class PrincipalServiceTest {
+    @Autowired
+    private PrincipalService principalService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private SubscriptionRepository subscriptionRepository;
+
+    @Autowired
+    private SubscriptionPlanRepository subscriptionPlanRepository;
+
+    @Autowired
+    private SubscriptionProductRepository subscriptionProductRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @MockitoBean
+    private TokenBlacklistService tokenBlacklistService;
+
+    private User user;
+    private SubscriptionPlan plan;
+
+    @BeforeEach
+    void setUp() {
+        user = userRepository.save(User.builder()
+                .email("principal@mockly.com")
+                .name("테스트 사용자")
+                .provider(OAuth2Provider.GOOGLE)
+                .providerId("principal-provider-id")
+                .build());
+        SubscriptionProduct product = subscriptionProductRepository.save(SubscriptionProduct.builder()
+                .name("프로")
+                .description("테스트용 구독 상품")
+                .features(List.of("AI_INTERVIEW"))
+                .maxSessions(3)
+                .build());
+        plan = subscriptionPlanRepository.save(SubscriptionPlan.builder()
+                .product(product)
+                .price(new BigDecimal("9900"))
+                .currency(Currency.KRW)
+                .billingCycle(BillingCycle.MONTHLY)
+                .build());
+    }
+
+    @AfterEach
+    void tearDown() {
+        subscriptionRepository.deleteAll();
+        subscriptionPlanRepository.deleteAll();
+        subscriptionProductRepository.deleteAll();
+        userRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("구독이 바뀌면 커밋 후 캐시된 인증 정보를 무효화")
+    void subscription_change_evicts_cached_principal() {
+        assertThat(principalService.load(user.getId()).planId()).isNull();
+
+        // 구독 변경 이벤트 없이 바꾼 값은 캐시 때문에 보이지 않음
+        jdbcTemplate.update("UPDATE users SET name = ? WHERE id = ?", "바뀐 이름", user.getId());
+        assertThat(principalService.load(user.getId()).name()).isEqualTo("테스트 사용자");
+
+        activeSubscription();
+
+        AuthenticatedUser reloaded = principalService.load(user.getId());
+        assertThat(reloaded.planId()).isEqualTo(plan.getId());
+        assertThat(reloaded.maxSessions()).isEqualTo(3);
+        assertThat(reloaded.name()).isEqualTo("바뀐 이름");
+    }
+
+    @Test
+    @DisplayName("롤백된 트랜잭션 안에서 조회한 값은 캐시에 남지 않음")
+    void rolled_back_load_is_not_cached() {
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            activeSubscription();
+            assertThat(principalService.load(user.getId()).planId()).isEqualTo(plan.getId());
+            status.setRollbackOnly();
+        });
+
+        assertThat(principalService.load(user.getId()).planId()).isNull();
+    }
+
+    private Subscription activeSubscription() {
+        Subscription subscription = Subscription.create(user.getId(), plan);
+        subscription.activate();
+        return subscriptionRepository.save(subscription);
+    }
+}
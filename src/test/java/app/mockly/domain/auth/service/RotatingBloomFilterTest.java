@@ -0,0 +1,47 @@
+package app.mockly.domain.auth.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("RotatingBloomFilter 테스트")
+class RotatingBloomFilterTest {
+    private static final long WINDOW_MILLIS = 900_000;
+
+    private final AtomicLong now = new AtomicLong(WINDOW_MILLIS * 10);
+    private final RotatingBloomFilter bloomFilter = new RotatingBloomFilter(WINDOW_MILLIS, 1000, 0.01, now::get);
+
+    @Test
+    @DisplayName("추가한 값은 항상 포함, 추가하지 않은 값은 대부분 미포함")
+    void mightContain_AfterPut() {
+        for (int i = 0; i < 1000; i++) {
+            bloomFilter.put("token-" + i);
+        }
+
+        for (int i = 0; i < 1000; i++) {
+            assertThat(bloomFilter.mightContain("token-" + i)).isTrue();
+        }
+        long falsePositives = 0;
+        for (int i = 0; i < 10000; i++) {
+            if (bloomFilter.mightContain("other-" + i)) {
+                falsePositives++;
+            }
+        }
+        assertThat(falsePositives).isLessThan(500);
+    }
+
+    @Test
+    @DisplayName("직전 창의 값은 유지되고, 두 창이 지나면 제거")
+    void mightContain_AfterRotation() {
+        bloomFilter.put("token");
+
+        now.addAndGet(WINDOW_MILLIS);
+        assertThat(bloomFilter.mightContain("token")).isTrue();
+
+        now.addAndGet(WINDOW_MILLIS);
+        assertThat(bloomFilter.mightContain("token")).isFalse();
+    }
+}
@@ -0,0 +1,177 @@
+package app.mockly.domain.auth.service;
+
+import app.mockly.domain.auth.dto.DeviceInfo;
+import app.mockly.domain.auth.dto.LocationInfo;
+import app.mockly.domain.auth.entity.OAuth2Provider;
+import app.mockly.domain.auth.entity.Session;
+import app.mockly.domain.auth.entity.User;
+import app.mockly.domain.auth.repository.SessionRepository;
+import app.mockly.domain.auth.repository.UserRepository;
+import app.mockly.global.config.SessionAccessProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@DisplayName("SessionAccessTracker 테스트")
+class SessionAccessTrackerTest {
+    private static final LocationInfo SEOUL = new LocationInfo(37.5, 127.0);
+    private static final LocationInfo BUSAN = new LocationInfo(35.1, 129.0);
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private SessionRepository sessionRepository;
+
+    @MockitoBean
+    private TokenBlacklistService tokenBlacklistService;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final SessionAccessProperties properties = new SessionAccessProperties();
+    private User user;
+    private int devices;
+
+    @BeforeEach
+    void setUp() {
+        user = userRepository.save(User.builder()
+                .email("tracker@mockly.com")
+                .name("테스트 사용자")
+                .provider(OAuth2Provider.GOOGLE)
+                .providerId("tracker-provider-id")
+                .build());
+    }
+
+    @AfterEach
+    void tearDown() {
+        sessionRepository.deleteAll();
+        userRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("같은 세션의 접근은 가장 최근 값 하나로 병합해 반영")
+    void merges_accesses_per_session() {
+        SessionAccessTracker tracker = newTracker();
+        Instant previous = Instant.now().minus(Duration.ofHours(1)).truncatedTo(ChronoUnit.MILLIS);
+        Long sessionId = session(previous);
+
+        tracker.record(sessionId, SEOUL);
+        tracker.record(sessionId, BUSAN);
+        tracker.flush();
+
+        assertThat(meterRegistry.get("session.access.merged").counter().count()).isEqualTo(1);
+        assertThat(lastAccessedAt(sessionId)).isAfter(previous);
+        assertThat(location(sessionId)).isEqualTo(BUSAN);
+    }
+
+    @Test
+    @DisplayName("DB에 더 최신 접근 시각이 있으면 덮어쓰지 않아 last_accessed_at은 앞으로만 이동")
+    void last_accessed_at_only_moves_forward() {
+        properties.setBatchSize(2);
+        SessionAccessTracker tracker = newTracker();
+        Instant future = Instant.now().plus(Duration.ofHours(1)).truncatedTo(ChronoUnit.MILLIS);
+        Instant past = Instant.now().minus(Duration.ofHours(1)).truncatedTo(ChronoUnit.MILLIS);
+        List<Long> newer = new ArrayList<>();
+        List<Long> older = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            newer.add(session(future));
+            older.add(session(past));
+        }
+
+        newer.forEach(sessionId -> tracker.record(sessionId, BUSAN));
+        older.forEach(sessionId -> tracker.record(sessionId, BUSAN));
+        tracker.flush();
+
+        for (Long sessionId : newer) {
+            assertThat(lastAccessedAt(sessionId)).isEqualTo(future);
+            assertThat(location(sessionId)).isEqualTo(SEOUL);
+        }
+        for (Long sessionId : older) {
+            assertThat(lastAccessedAt(sessionId)).isAfter(past);
+            assertThat(location(sessionId)).isEqualTo(BUSAN);
+        }
+    }
+
+    @Test
+    @DisplayName("대기 세션 수가 maxPending에 도달하면 새 세션의 갱신은 버리고, 대기 중인 세션은 계속 병합")
+    void drops_new_sessions_when_full() {
+        properties.setMaxPending(1);
+        SessionAccessTracker tracker = newTracker();
+        Instant previous = Instant.now().minus(Duration.ofHours(1)).truncatedTo(ChronoUnit.MILLIS);
+        Long pendingSession = session(previous);
+        Long droppedSession = session(previous);
+
+        tracker.record(pendingSession, SEOUL);
+        tracker.record(droppedSession, SEOUL);
+        tracker.record(pendingSession, BUSAN);
+        tracker.flush();
+
+        assertThat(meterRegistry.get("session.access.dropped").counter().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("session.access.merged").counter().count()).isEqualTo(1);
+        assertThat(location(pendingSession)).isEqualTo(BUSAN);
+        assertThat(location(droppedSession)).isEqualTo(SEOUL);
+        assertThat(lastAccessedAt(droppedSession)).isEqualTo(previous);
+    }
+
+    @Test
+    @DisplayName("애플리케이션 종료 시 대기 중인 갱신을 반영")
+    void flushes_on_shutdown() {
+        SessionAccessTracker tracker = newTracker();
+        Instant previous = Instant.now().minus(Duration.ofHours(1)).truncatedTo(ChronoUnit.MILLIS);
+        Long sessionId = session(previous);
+        AnnotationConfigApplicationContext context = new AnnotationConfigApplicationContext();
+        context.registerBean(SessionAccessTracker.class, () -> tracker);
+        context.refresh();
+
+        tracker.record(sessionId, BUSAN);
+        context.close();
+
+        assertThat(lastAccessedAt(sessionId)).isAfter(previous);
+        assertThat(location(sessionId)).isEqualTo(BUSAN);
+    }
+
+    private SessionAccessTracker newTracker() {
+        return new SessionAccessTracker(jdbcTemplate, properties, meterRegistry);
+    }
+
+    /**
+     * 서울 위치에서 lastAccessedAt에 마지막으로 접근한 세션
+     */
+    private Long session(Instant lastAccessedAt) {
+        devices++;
+        Session session = sessionRepository.save(Session.create(user,
+                new DeviceInfo("tracker-device-" + devices, "Test Device " + devices), SEOUL));
+        jdbcTemplate.update("UPDATE session SET last_accessed_at = ? WHERE id = ?",
+                Timestamp.from(lastAccessedAt), session.getId());
+        return session.getId();
+    }
+
+    private Instant lastAccessedAt(Long sessionId) {
+        return jdbcTemplate.queryForObject("SELECT last_accessed_at FROM session WHERE id = ?", Timestamp.class, sessionId)
+                .toInstant();
+    }
+
+    private LocationInfo location(Long sessionId) {
+        return jdbcTemplate.queryForObject("SELECT latitude, longitude FROM session WHERE id = ?",
+                (rs, rowNum) -> new LocationInfo(rs.getDouble("latitude"), rs.getDouble("longitude")), sessionId);
+    }
+}
@@ -0,0 +1,248 @@
+package app.mockly.domain.auth.service;
+
+import app.mockly.domain.auth.dto.AccessTokenClaims;
+import app.mockly.global.config.JwtProperties;
+import app.mockly.global.config.TokenBlacklistProperties;
+import app.mockly.global.security.TokenDigest;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willAnswer;
+import static org.mockito.Mockito.clearInvocations;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@DisplayName("TokenBlacklistService 테스트")
+class TokenBlacklistServiceTest {
+    private static final String CHANNEL = "blacklist:events";
+
+    // 노드 사이에 공유되는 Redis (값 저장소와 발행된 메시지)
+    private final Map<String, String> redis = new ConcurrentHashMap<>();
+    private final List<String> published = new CopyOnWriteArrayList<>();
+
+    private RedisTemplate<String, String> redisTemplate;
+    private ValueOperations<String, String> valueOperations;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        redisTemplate = mock(RedisTemplate.class);
+        valueOperations = mock(ValueOperations.class);
+        given(redisTemplate.opsForValue()).willReturn(valueOperations);
+        willAnswer(invocation -> redis.put(invocation.getArgument(0), invocation.getArgument(1)))
+                .given(valueOperations).set(anyString(), anyString(), anyLong(), any(TimeUnit.class));
+        given(valueOperations.get(anyString())).willAnswer(invocation -> redis.get(invocation.<String>getArgument(0)));
+        given(redisTemplate.hasKey(anyString())).willAnswer(invocation -> redis.containsKey(invocation.<String>getArgument(0)));
+        given(redisTemplate.getExpire(anyString(), any(TimeUnit.class))).willReturn(Duration.ofMinutes(10).toMillis());
+        given(redisTemplate.convertAndSend(anyString(), any())).willAnswer(invocation -> {
+            published.add(invocation.getArgument(1));
+            return 1L;
+        });
+        given(valueOperations.increment(anyString())).willAnswer(invocation -> Long.parseLong(
+                redis.merge(invocation.getArgument(0), "1", (current, one) -> Long.toString(Long.parseLong(current) + 1))));
+        given(redisTemplate.scan(any(ScanOptions.class))).willAnswer(invocation -> cursorOf(redis.keySet().stream()
+                .filter(key -> key.startsWith("blacklist:"))
+                .toList()));
+    }
+
+    @Test
+    @DisplayName("다른 노드에서 폐기한 토큰은 메시지를 받은 뒤 Redis 조회 없이 차단")
+    void revocation_propagates_through_message() {
+        TokenBlacklistService origin = newService();
+        TokenBlacklistService other = newService();
+        AccessTokenClaims claims = claims(UUID.randomUUID());
+
+        origin.blacklist(claims);
+        published.forEach(body -> other.onMessage(message(body), null));
+        clearInvocations(valueOperations);
+
+        assertThat(other.isBlacklisted(claims)).isTrue();
+        verify(valueOperations, never()).get(anyString());
+    }
+
+    @Test
+    @DisplayName("pub/sub 메시지를 놓쳐 Redis에만 기록된 폐기도 번호 확인 후 Bloom filter를 재구성해 차단")
+    void detects_revocation_without_message() {
+        TokenBlacklistService origin = newService();
+        TokenBlacklistService other = newService();
+        other.rebuildBloomFilter();
+        AccessTokenClaims claims = claims(UUID.randomUUID());
+
+        origin.blacklist(claims); // other에는 메시지가 전달되지 않음
+        other.verifySequence();
+        other.verifySequence();
+
+        assertThat(other.isBlacklisted(claims)).isTrue();
+    }
+
+    @Test
+    @DisplayName("메시지를 빠짐없이 받았으면 재구성하지 않고, Bloom filter가 없다고 답한 토큰은 Redis를 조회하지 않음")
+    void trusts_bloom_filter_while_in_sync() {
+        TokenBlacklistService origin = newService();
+        TokenBlacklistService other = newService();
+        other.rebuildBloomFilter();
+        AccessTokenClaims revoked = claims(UUID.randomUUID());
+
+        origin.blacklist(revoked);
+        published.forEach(body -> other.onMessage(message(body), null));
+        other.verifySequence();
+        other.verifySequence();
+        clearInvocations(valueOperations);
+
+        assertThat(other.isBlacklisted(claims(UUID.randomUUID()))).isFalse();
+        assertThat(other.isBlacklisted(revoked)).isTrue();
+        verify(valueOperations, never()).get(anyString());
+        verify(redisTemplate, times(1)).scan(any(ScanOptions.class));
+    }
+
+    @Test
+    @DisplayName("형식이 맞지 않는 메시지는 무시")
+    void ignores_malformed_messages() {
+        TokenBlacklistService service = newService();
+        AccessTokenClaims claims = claims(UUID.randomUUID());
+        String entry = "jti:" + claims.tokenId();
+
+        service.onMessage(message("garbage"), null);
+        service.onMessage(message(entry + "|not-a-number|123"), null);
+        service.onMessage(message(entry + "|123"), null);
+        service.onMessage(message("|"), null);
+
+        assertThat(service.isBlacklisted(claims)).isFalse();
+    }
+
+    @Test
+    @DisplayName("사용자 워터마크는 더 늦은 시각으로만 갱신 (늦게 도착한 이전 메시지가 덮어쓰지 않음)")
+    void keeps_latest_watermark() {
+        TokenBlacklistService service = newService();
+        UUID userId = UUID.randomUUID();
+        AccessTokenClaims claims = claims(userId);
+        long expiresAt = Instant.now().plus(Duration.ofMinutes(15)).toEpochMilli();
+        long later = claims.issuedAt().plusSeconds(60).toEpochMilli();
+        long earlier = claims.issuedAt().minusSeconds(60).toEpochMilli();
+
+        service.onMessage(message("user:" + userId + "|" + later + "|" + expiresAt), null);
+        service.onMessage(message("user:" + userId + "|" + earlier + "|" + expiresAt), null);
+
+        assertThat(service.isBlacklisted(claims)).isTrue();
+    }
+
+    @Test
+    @DisplayName("워터마크는 밀리초 단위로 비교: 같은 초라도 워터마크 이후(같은 밀리초 포함)에 발급된 토큰은 유효")
+    void watermark_compares_milliseconds() {
+        TokenBlacklistService service = newService();
+        UUID userId = UUID.randomUUID();
+        Instant watermark = Instant.now().truncatedTo(ChronoUnit.SECONDS).plusMillis(500);
+
+        service.revokeAllIssuedBefore(userId, watermark);
+
+        assertThat(service.isBlacklisted(claims(userId, watermark.minusMillis(400)))).isTrue();
+        assertThat(service.isBlacklisted(claims(userId, watermark.minusMillis(1)))).isTrue();
+        assertThat(service.isBlacklisted(claims(userId, watermark))).isFalse();
+        assertThat(service.isBlacklisted(claims(userId, watermark.plusMillis(1)))).isFalse();
+        assertThat(service.isBlacklisted(claims(UUID.randomUUID(), watermark.minusMillis(1)))).isFalse();
+    }
+
+    @Test
+    @DisplayName("Redis에서 찾은 폐기 정보는 로컬에 보관해 다시 조회하지 않음")
+    void caches_redis_hit_locally() {
+        TokenBlacklistService service = newService();
+        AccessTokenClaims claims = claims(UUID.randomUUID());
+        String key = "blacklist:jti:" + claims.tokenId();
+        redis.put(key, Long.toString(claims.expiresAt().toEpochMilli()));
+
+        assertThat(service.isBlacklisted(claims)).isTrue();
+        assertThat(service.isBlacklisted(claims)).isTrue();
+        verify(valueOperations, times(1)).get(key);
+    }
+
+    @Test
+    @DisplayName("폐기되지 않은 토큰도 negativeCacheTtl 동안은 Redis를 다시 조회하지 않음")
+    void caches_redis_miss_locally() {
+        TokenBlacklistService service = newService();
+        AccessTokenClaims claims = claims(UUID.randomUUID());
+        String key = "blacklist:jti:" + claims.tokenId();
+
+        assertThat(service.isBlacklisted(claims)).isFalse();
+        assertThat(service.isBlacklisted(claims)).isFalse();
+        verify(valueOperations, times(1)).get(key);
+    }
+
+    @Test
+    @DisplayName("배포 전 형식(blacklist:token:{token})으로 폐기된 토큰도 차단하고 jti 항목으로 옮긴다")
+    void falls_back_to_legacy_key() {
+        TokenBlacklistService service = newService();
+        String legacyToken = "legacy.jwt.token";
+        AccessTokenClaims claims = new AccessTokenClaims(UUID.randomUUID(), TokenDigest.sha256(legacyToken),
+                Instant.now(), Instant.now().plus(Duration.ofMinutes(10)), legacyToken);
+        redis.put("blacklist:token:" + legacyToken, "1");
+
+        assertThat(service.isBlacklisted(claims)).isTrue();
+        assertThat(redis).containsKey("blacklist:jti:" + claims.tokenId());
+    }
+
+    @Test
+    @DisplayName("jti가 있는 토큰은 배포 전 형식 키를 조회하지 않음")
+    void skips_legacy_key_for_current_tokens() {
+        TokenBlacklistService service = newService();
+
+        assertThat(service.isBlacklisted(claims(UUID.randomUUID()))).isFalse();
+        verify(redisTemplate, never()).hasKey(anyString());
+    }
+
+    private TokenBlacklistService newService() {
+        TokenBlacklistProperties properties = new TokenBlacklistProperties();
+        properties.setChannel(CHANNEL);
+        JwtProperties jwtProperties = new JwtProperties();
+        jwtProperties.setAccessTokenExpiration(Duration.ofMinutes(15).toMillis());
+        return new TokenBlacklistService(redisTemplate, mock(RedisMessageListenerContainer.class),
+                properties, jwtProperties, new SimpleMeterRegistry());
+    }
+
+    private static AccessTokenClaims claims(UUID userId) {
+        return claims(userId, Instant.now());
+    }
+
+    private static AccessTokenClaims claims(UUID userId, Instant issuedAt) {
+        return new AccessTokenClaims(userId, UUID.randomUUID().toString(), issuedAt, issuedAt.plus(Duration.ofMinutes(15)), null);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Cursor<String> cursorOf(List<String> keys) {
+        Iterator<String> iterator = keys.iterator();
+        Cursor<String> cursor = mock(Cursor.class);
+        given(cursor.hasNext()).willAnswer(invocation -> iterator.hasNext());
+        given(cursor.next()).willAnswer(invocation -> iterator.next());
+        return cursor;
+    }
+
+    private static DefaultMessage message(String body) {
+        return new DefaultMessage(CHANNEL.getBytes(StandardCharsets.UTF_8), body.getBytes(StandardCharsets.UTF_8));
+    }
+}
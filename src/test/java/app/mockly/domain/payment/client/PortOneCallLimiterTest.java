@@ -0,0 +1,87 @@
+package app.mockly.domain.payment.client;
+
+import app.mockly.global.common.ApiStatusCode;
+import app.mockly.global.config.SchedulingProperties;
+import app.mockly.global.exception.BusinessException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("PortOneCallLimiter 테스트")
+class PortOneCallLimiterTest {
+
+    @Test
+    @DisplayName("동시 호출 수가 설정값을 넘지 않는다")
+    void limits_concurrent_calls() {
+        PortOneCallLimiter limiter = new PortOneCallLimiter(properties(3, Duration.ofSeconds(10)));
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger maxRunning = new AtomicInteger();
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < 50; i++) {
+                executor.submit(() -> limiter.run(() -> {
+                    maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+                    sleep(10);
+                    running.decrementAndGet();
+                }));
+            }
+        }
+
+        assertThat(maxRunning.get()).isLessThanOrEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("슬롯을 얻지 못하면 대기 시간 후 PAYMENT_GATEWAY_UNAVAILABLE")
+    void fails_when_acquire_times_out() throws InterruptedException {
+        PortOneCallLimiter limiter = new PortOneCallLimiter(properties(1, Duration.ofMillis(50)));
+        CountDownLatch holding = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        Thread holder = Thread.ofVirtual().start(() -> limiter.run(() -> {
+            holding.countDown();
+            await(release);
+        }));
+        holding.await(1, TimeUnit.SECONDS);
+
+        assertThatThrownBy(() -> limiter.call(() -> "ok"))
+                .isInstanceOf(BusinessException.class)
+                .extracting(e -> ((BusinessException) e).getStatusCode())
+                .isEqualTo(ApiStatusCode.PAYMENT_GATEWAY_UNAVAILABLE);
+
+        release.countDown();
+        holder.join();
+        assertThat(limiter.call(() -> "ok")).isEqualTo("ok");
+    }
+
+    private SchedulingProperties properties(int concurrency, Duration acquireTimeout) {
+        SchedulingProperties properties = new SchedulingProperties();
+        properties.setPortOneConcurrency(concurrency);
+        properties.setPortOneAcquireTimeout(acquireTimeout);
+        return properties;
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
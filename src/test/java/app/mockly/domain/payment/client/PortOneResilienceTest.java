@@ -0,0 +1,143 @@
+package app.mockly.domain.payment.client;
+
+import app.mockly.global.common.ApiStatusCode;
+import app.mockly.global.config.BillingKeyCacheProperties;
+import app.mockly.global.config.PortOneProperties;
+import app.mockly.global.config.PortOneResilienceProperties;
+import app.mockly.global.exception.BusinessException;
+import com.sun.net.httpserver.HttpServer;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.portone.sdk.server.PortOneClient;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("PortOne 서킷 브레이커 / bulkhead 테스트")
+class PortOneResilienceTest {
+    private HttpServer fakePortOne;
+    private final AtomicInteger received = new AtomicInteger();
+    private MeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        // 모든 요청에 500을 돌려주는 로컬 가짜 PortOne 서버
+        fakePortOne = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        fakePortOne.createContext("/", exchange -> {
+            received.incrementAndGet();
+            byte[] body = "{\"type\":\"INTERNAL_SERVER_ERROR\",\"message\":\"fake outage\"}".getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            exchange.sendResponseHeaders(500, body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        });
+        fakePortOne.start();
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    @AfterEach
+    void tearDown() {
+        fakePortOne.stop(0);
+    }
+
+    @Test
+    @DisplayName("PortOne 장애가 이어지면 서킷이 열리고, 이후 호출은 PortOne에 보내지 않고 바로 실패")
+    void opens_circuit_and_fails_fast() {
+        PortOneResilience resilience = new PortOneResilience(properties(4, Duration.ofMinutes(1), 8), meterRegistry);
+        PortOneService portOneService = portOneService(resilience);
+
+        for (int i = 0; i < 4; i++) {
+            String billingKey = "billing-key-" + i;
+            assertThatThrownBy(() -> portOneService.getBillingKey(billingKey))
+                    .isInstanceOf(BusinessException.class)
+                    .extracting(e -> ((BusinessException) e).getStatusCode())
+                    .isEqualTo(ApiStatusCode.BAD_REQUEST);
+        }
+        assertThat(resilience.state(PortOneOperation.GET_BILLING_KEY)).isEqualTo(CircuitBreaker.State.OPEN);
+
+        assertThatThrownBy(() -> portOneService.getBillingKey("billing-key-4"))
+                .isInstanceOf(BusinessException.class)
+                .extracting(e -> ((BusinessException) e).getStatusCode())
+                .isEqualTo(ApiStatusCode.PAYMENT_GATEWAY_UNAVAILABLE);
+        assertThat(received.get()).isEqualTo(4);
+
+        // 다른 API의 서킷은 영향 없음
+        assertThat(resilience.state(PortOneOperation.PAY_WITH_BILLING_KEY)).isEqualTo(CircuitBreaker.State.CLOSED);
+        assertThat(meterRegistry.get("portone.circuit.state").tag("operation", "get_billing_key").gauge().value())
+                .isEqualTo(1.0);
+        assertThat(meterRegistry.get("portone.calls").tags("operation", "get_billing_key", "result", "rejected_open")
+                .counter().count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("OPEN 유지 시간이 지나면 시험 호출이 모두 성공할 때 서킷이 닫힌다")
+    void closes_after_successful_half_open_calls() throws InterruptedException {
+        PortOneResilience resilience = new PortOneResilience(properties(2, Duration.ofMillis(50), 8), meterRegistry);
+
+        for (int i = 0; i < 2; i++) {
+            resilience.execute(PortOneOperation.REVOKE_PAYMENT_SCHEDULE,
+                    () -> CompletableFuture.failedFuture(new TimeoutException()));
+        }
+        assertThat(resilience.state(PortOneOperation.REVOKE_PAYMENT_SCHEDULE)).isEqualTo(CircuitBreaker.State.OPEN);
+
+        Thread.sleep(100);
+        for (int i = 0; i < 2; i++) {
+            assertThat(resilience.execute(PortOneOperation.REVOKE_PAYMENT_SCHEDULE,
+                    () -> CompletableFuture.completedFuture("ok")).join()).isEqualTo("ok");
+        }
+        assertThat(resilience.state(PortOneOperation.REVOKE_PAYMENT_SCHEDULE)).isEqualTo(CircuitBreaker.State.CLOSED);
+    }
+
+    @Test
+    @DisplayName("동시 호출 한도를 넘으면 기다리지 않고 바로 실패")
+    void rejects_when_bulkhead_is_full() {
+        PortOneResilience resilience = new PortOneResilience(properties(4, Duration.ofMinutes(1), 1), meterRegistry);
+        CompletableFuture<String> inFlight = new CompletableFuture<>();
+
+        resilience.execute(PortOneOperation.PAY_WITH_BILLING_KEY, () -> inFlight);
+        CompletableFuture<String> rejected = resilience.execute(PortOneOperation.PAY_WITH_BILLING_KEY,
+                () -> CompletableFuture.completedFuture("ok"));
+
+        assertThatThrownBy(rejected::join)
+                .hasCauseInstanceOf(BusinessException.class)
+                .cause()
+                .extracting(e -> ((BusinessException) e).getStatusCode())
+                .isEqualTo(ApiStatusCode.PAYMENT_GATEWAY_UNAVAILABLE);
+
+        inFlight.complete("done");
+        assertThat(resilience.execute(PortOneOperation.PAY_WITH_BILLING_KEY,
+                () -> CompletableFuture.completedFuture("ok")).join()).isEqualTo("ok");
+    }
+
+    private PortOneService portOneService(PortOneResilience resilience) {
+        String apiBase = "http://localhost:" + fakePortOne.getAddress().getPort();
+        PortOneProperties properties = new PortOneProperties("test-api-secret", apiBase, "test-store-id", "test-channel-key", "test-webhook-secret");
+        PortOneClient client = new PortOneClient(properties.apiSecret(), properties.apiBase(), properties.storeId());
+        return new PortOneService(new PortOnePaymentGateway(client, properties), resilience, new BillingKeyCacheProperties());
+    }
+
+    private PortOneResilienceProperties properties(int windowSize, Duration openDuration, int maxConcurrentCalls) {
+        PortOneResilienceProperties properties = new PortOneResilienceProperties();
+        properties.setSlidingWindowSize(windowSize);
+        properties.setMinimumCalls(windowSize);
+        properties.setOpenDuration(openDuration);
+        properties.setHalfOpenCalls(2);
+        properties.setMaxConcurrentCalls(maxConcurrentCalls);
+        properties.setMaxWait(Duration.ZERO);
+        return properties;
+    }
+}
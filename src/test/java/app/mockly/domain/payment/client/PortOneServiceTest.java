@@ -0,0 +1,54 @@
+package app.mockly.domain.payment.client;
+
+import app.mockly.global.config.BillingKeyCacheProperties;
+import app.mockly.global.config.PortOneResilienceProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@DisplayName("PortOneService 빌링키 캐시 테스트")
+class PortOneServiceTest {
+    private final BillingKeyCard card = new BillingKeyCard("1234****5678****9012", "VISA");
+
+    private PaymentGateway paymentGateway;
+    private PortOneService portOneService;
+
+    @BeforeEach
+    void setUp() {
+        paymentGateway = mock(PaymentGateway.class);
+        given(paymentGateway.getBillingKey(anyString()))
+                .willAnswer(invocation -> CompletableFuture.completedFuture(card));
+
+        PortOneResilience resilience = new PortOneResilience(new PortOneResilienceProperties(), new SimpleMeterRegistry());
+        portOneService = new PortOneService(paymentGateway, resilience, new BillingKeyCacheProperties());
+    }
+
+    @Test
+    @DisplayName("같은 빌링키는 두 번째 조회부터 PG를 호출하지 않는다")
+    void caches_billing_key_card() {
+        assertThat(portOneService.getBillingKey("billing-key")).isEqualTo(card);
+        assertThat(portOneService.getBillingKey("billing-key")).isEqualTo(card);
+
+        verify(paymentGateway, times(1)).getBillingKey("billing-key");
+    }
+
+    @Test
+    @DisplayName("캐시를 제거하면 다음 조회에서 다시 PG를 호출한다")
+    void evicts_billing_key_card() {
+        portOneService.getBillingKey("billing-key");
+        portOneService.evictBillingKey("billing-key");
+        portOneService.getBillingKey("billing-key");
+
+        verify(paymentGateway, times(2)).getBillingKey("billing-key");
+    }
+}
@@ -0,0 +1,124 @@
+package app.mockly.domain.payment.client.simulator;
+
+import app.mockly.domain.payment.client.GatewayPayment;
+import app.mockly.domain.payment.controller.WebhookController;
+import app.mockly.global.config.PaymentGatewayProperties;
+import app.mockly.global.config.PortOneProperties;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.portone.sdk.server.common.Currency;
+import io.portone.sdk.server.common.PaymentAmountInput;
+import io.portone.sdk.server.webhook.Webhook;
+import io.portone.sdk.server.webhook.WebhookTransactionPaid;
+import io.portone.sdk.server.webhook.WebhookVerifier;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.after;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+
+@DisplayName("결제 시뮬레이터 테스트")
+class SimulatedPaymentGatewayTest {
+    private static final String WEBHOOK_SECRET = "whsec_" + Base64.getEncoder().encodeToString("simulator-webhook-secret-32bytes".getBytes());
+
+    private ThreadPoolTaskScheduler taskScheduler;
+    private SimulatedWebhookSender webhookSender;
+    private SimulatedPaymentGateway gateway;
+
+    @BeforeEach
+    void setUp() {
+        taskScheduler = new ThreadPoolTaskScheduler();
+        taskScheduler.initialize();
+        webhookSender = mock(SimulatedWebhookSender.class);
+
+        PaymentGatewayProperties properties = new PaymentGatewayProperties();
+        properties.getSimulator().setLatencyDistribution(PaymentGatewayProperties.LatencyDistribution.FIXED);
+        properties.getSimulator().setLatencyMedian(Duration.ZERO);
+        properties.getSimulator().setScheduleFireDelay(Duration.ofMillis(100));
+        properties.getSimulator().setWebhookDelay(Duration.ZERO);
+        properties.getSimulator().setSeed(42L);
+        gateway = new SimulatedPaymentGateway(properties, taskScheduler, webhookSender);
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        taskScheduler.shutdown();
+        gateway.shutdown();
+    }
+
+    @Test
+    @DisplayName("예약 결제가 실행되면 결제 완료 웹훅을 보내고 결제 상태가 PAID가 된다")
+    void fires_scheduled_payment() {
+        String scheduleId = createSchedule("payment-1");
+
+        verify(webhookSender, timeout(2_000)).send(SimulatedWebhookSender.TRANSACTION_PAID, "payment-1");
+        assertThat(scheduleId).isNotBlank();
+        GatewayPayment payment = gateway.getPayment("payment-1").join();
+        assertThat(payment.isPaid()).isTrue();
+        assertThat(payment.billingKey()).isEqualTo("billing-key");
+    }
+
+    @Test
+    @DisplayName("예약 실행과 웹훅 전송은 공유 스케줄러 스레드가 아닌 가상 스레드에서 실행된다")
+    void sends_webhook_on_virtual_thread() throws Exception {
+        CompletableFuture<Boolean> virtual = new CompletableFuture<>();
+        doAnswer(invocation -> {
+            virtual.complete(Thread.currentThread().isVirtual());
+            return null;
+        }).when(webhookSender).send(anyString(), anyString());
+
+        createSchedule("payment-1");
+
+        assertThat(virtual.get(2, TimeUnit.SECONDS)).isTrue();
+    }
+
+    @Test
+    @DisplayName("취소된 예약은 실행되지 않고, 없는 예약은 취소 결과에서 빠진다")
+    void revoked_schedule_does_not_fire() {
+        String scheduleId = createSchedule("payment-1");
+
+        Set<String> revoked = gateway.revokePaymentSchedules(List.of(scheduleId, "unknown-schedule")).join();
+
+        assertThat(revoked).containsExactly(scheduleId);
+        verify(webhookSender, after(300).never()).send(anyString(), anyString());
+    }
+
+    @Test
+    @DisplayName("웹훅은 PortOne SDK의 WebhookVerifier로 검증되는 Standard Webhooks 서명을 가진다")
+    void signs_webhook_like_portone() throws Exception {
+        @SuppressWarnings("unchecked")
+        ObjectProvider<WebhookController> webhookController = mock(ObjectProvider.class);
+        PortOneProperties portOneProperties = new PortOneProperties("test-api-secret", "https://api.portone.io", "test-store-id", "test-channel-key", WEBHOOK_SECRET);
+        SimulatedWebhookSender sender = new SimulatedWebhookSender(webhookController, new ObjectMapper(), new SimpleMeterRegistry(), portOneProperties);
+
+        SimulatedWebhookSender.SignedWebhook signed = sender.sign(SimulatedWebhookSender.TRANSACTION_PAID, "payment-1");
+        Webhook webhook = new WebhookVerifier(WEBHOOK_SECRET)
+                .verify(signed.body(), signed.webhookId(), signed.signature(), signed.timestamp());
+
+        assertThat(webhook).isInstanceOf(WebhookTransactionPaid.class);
+        assertThat(((WebhookTransactionPaid) webhook).getData().getPaymentId()).isEqualTo("payment-1");
+    }
+
+    private String createSchedule(String paymentId) {
+        return gateway.createPaymentSchedule(paymentId, "billing-key", "테스트 상품 - 갱신", Currency.Krw.INSTANCE,
+                new PaymentAmountInput(9900L, null, null), Instant.now().plus(Duration.ofDays(30))).join();
+    }
+}
@@ -5,6 +5,7 @@ import app.mockly.domain.auth.entity.User;
 import app.mockly.domain.auth.repository.UserRepository;
 import app.mockly.domain.auth.service.JwtService;
 import app.mockly.domain.auth.service.TokenBlacklistService;
+import app.mockly.domain.payment.client.BillingKeyCard;
 import app.mockly.domain.payment.client.PortOneService;
 import app.mockly.domain.payment.controller.docs.AddPaymentMethodDocs;
 import app.mockly.domain.payment.controller.docs.DeletePaymentMethodDocs;
@@ -18,10 +19,6 @@ import app.mockly.domain.product.repository.SubscriptionPlanRepository;
 import app.mockly.domain.product.repository.SubscriptionProductRepository;
 import app.mockly.domain.product.repository.SubscriptionRepository;
 import com.fasterxml.jackson.databind.ObjectMapper;
-import io.portone.sdk.server.common.Card;
-import io.portone.sdk.server.common.CardBrand;
-import io.portone.sdk.server.payment.billingkey.BillingKeyInfo;
-import io.portone.sdk.server.payment.billingkey.BillingKeyPaymentMethodCard;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -34,13 +31,11 @@ import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.util.List;
-
 import static com.epages.restdocs.apispec.MockMvcRestDocumentationWrapper.document;
 import static com.epages.restdocs.apispec.ResourceDocumentation.resource;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.BDDMockito.given;
-import static org.mockito.Mockito.mock;
 import static org.springframework.restdocs.mockmvc.RestDocumentationRequestBuilders.delete;
 import static org.springframework.restdocs.mockmvc.RestDocumentationRequestBuilders.get;
 import static org.springframework.restdocs.mockmvc.RestDocumentationRequestBuilders.patch;
@@ -102,7 +97,7 @@ class PaymentMethodControllerTest {
         validAccessToken = jwtService.generateAccessToken(testUser.getId());
 
         // TokenBlacklistService 모킹 - 모든 토큰을 블랙리스트에 없다고 응답
-        given(tokenBlacklistService.isBlacklisted(anyString())).willReturn(false);
+        given(tokenBlacklistService.isBlacklisted(any())).willReturn(false);
 
         // 테스트용 구독 플랜 생성
         SubscriptionProduct product = SubscriptionProduct.builder()
@@ -127,9 +122,8 @@ class PaymentMethodControllerTest {
         String billingKey = "billing_key_12345";
         AddPaymentMethodRequest request = new AddPaymentMethodRequest(billingKey);
 
-        // PortOne BillingKeyInfo Mock
-        BillingKeyInfo mockBillingKeyInfo = createMockBillingKeyInfo("1234****5678****9012", "VISA");
-        given(portOneService.getBillingKey(anyString())).willReturn(mockBillingKeyInfo);
+        // PortOne 빌링키 조회 결과 Mock
+        given(portOneService.getBillingKey(anyString())).willReturn(new BillingKeyCard("1234****5678****9012", "VISA"));
 
         // When & Then
         mockMvc.perform(post("/api/payment-methods")
@@ -164,9 +158,8 @@ class PaymentMethodControllerTest {
         String billingKey = "billing_key_67890";
         AddPaymentMethodRequest request = new AddPaymentMethodRequest(billingKey);
 
-        // PortOne BillingKeyInfo Mock
-        BillingKeyInfo mockBillingKeyInfo = createMockBillingKeyInfo("9876****4321****1111", "MASTERCARD");
-        given(portOneService.getBillingKey(anyString())).willReturn(mockBillingKeyInfo);
+        // PortOne 빌링키 조회 결과 Mock
+        given(portOneService.getBillingKey(anyString())).willReturn(new BillingKeyCard("9876****4321****1111", "MASTERCARD"));
 
         // When & Then
         mockMvc.perform(post("/api/payment-methods")
@@ -457,19 +450,4 @@ class PaymentMethodControllerTest {
                 .andExpect(jsonPath("$.error").value("RESOURCE_NOT_FOUND"))
                 .andExpect(jsonPath("$.message").value("결제 수단을 찾을 수 없습니다."));
     }
-
-    private BillingKeyInfo createMockBillingKeyInfo(String cardNumber, String cardBrand) {
-        Card mockCard = mock(Card.class);
-        given(mockCard.getNumber()).willReturn(cardNumber);
-        given(mockCard.getBrand()).willReturn(mock(CardBrand.class));
-        given(mockCard.getBrand().toString()).willReturn(cardBrand);
-
-        BillingKeyPaymentMethodCard mockCardMethod = mock(BillingKeyPaymentMethodCard.class);
-        given(mockCardMethod.getCard()).willReturn(mockCard);
-
-        BillingKeyInfo.Recognized mockRecognized = mock(BillingKeyInfo.Recognized.class);
-        given(mockRecognized.getMethods()).willReturn(List.of(mockCardMethod));
-
-        return mockRecognized;
-    }
 }
@@ -0,0 +1,87 @@
+package app.mockly.domain.payment.outbox;
+
+import app.mockly.domain.auth.entity.OAuth2Provider;
+import app.mockly.domain.auth.entity.User;
+import app.mockly.domain.auth.entity.UserRole;
+import app.mockly.domain.auth.repository.UserRepository;
+import app.mockly.domain.auth.service.JwtService;
+import app.mockly.domain.auth.service.TokenBlacklistService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.annotation.Transactional;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@Transactional
+@DisplayName("Outbox 관리 엔드포인트 권한 테스트")
+class OutboxEndpointSecurityTest {
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private JwtService jwtService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @MockitoBean
+    private TokenBlacklistService tokenBlacklistService;
+
+    @BeforeEach
+    void setUp() {
+        given(tokenBlacklistService.isBlacklisted(any())).willReturn(false);
+    }
+
+    @Test
+    @DisplayName("일반 사용자 토큰으로는 실패 이벤트 조회와 재처리 모두 403")
+    void user_token_is_forbidden() throws Exception {
+        String token = tokenOf(userWithRole("user@mockly.com", UserRole.USER));
+
+        mockMvc.perform(get("/actuator/outbox").header("Authorization", "Bearer " + token))
+                .andExpect(status().isForbidden());
+        mockMvc.perform(post("/actuator/outbox").header("Authorization", "Bearer " + token))
+                .andExpect(status().isForbidden());
+    }
+
+    @Test
+    @DisplayName("토큰 없이 요청하면 401")
+    void anonymous_is_unauthorized() throws Exception {
+        mockMvc.perform(get("/actuator/outbox"))
+                .andExpect(status().isUnauthorized());
+    }
+
+    @Test
+    @DisplayName("DB에 ADMIN 역할이 저장된 사용자만 조회 가능")
+    void admin_token_is_allowed() throws Exception {
+        String token = tokenOf(userWithRole("admin@mockly.com", UserRole.ADMIN));
+
+        mockMvc.perform(get("/actuator/outbox").header("Authorization", "Bearer " + token))
+                .andExpect(status().isOk());
+    }
+
+    private User userWithRole(String email, UserRole role) {
+        return userRepository.save(User.builder()
+                .email(email)
+                .name("테스트 사용자")
+                .provider(OAuth2Provider.GOOGLE)
+                .providerId("provider-" + email)
+                .role(role)
+                .build());
+    }
+
+    private String tokenOf(User user) {
+        return jwtService.generateAccessToken(user.getId());
+    }
+}
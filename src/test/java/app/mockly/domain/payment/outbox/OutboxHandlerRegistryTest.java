@@ -0,0 +1,57 @@
+package app.mockly.domain.payment.outbox;
+
+import app.mockly.domain.payment.entity.OutboxEvent;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("OutboxHandlerRegistry 테스트")
+class OutboxHandlerRegistryTest {
+
+    @Test
+    @DisplayName("같은 eventType의 핸들러가 둘 이상이면 기동 시 실패")
+    void rejects_duplicate_handlers() {
+        List<OutboxHandler<?>> handlers = List.of(new TestHandler(), new TestHandler());
+
+        assertThatThrownBy(() -> new OutboxHandlerRegistry(handlers, new ObjectMapper()))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining(TestHandler.EVENT_TYPE);
+    }
+
+    @Test
+    @DisplayName("등록된 핸들러의 타입으로 payload를 역직렬화하고, 등록되지 않은 타입은 찾지 않는다")
+    void finds_handler_and_reads_payload() {
+        TestHandler handler = new TestHandler();
+        OutboxHandlerRegistry registry = new OutboxHandlerRegistry(List.of(handler), new ObjectMapper());
+
+        assertThat(registry.find(TestHandler.EVENT_TYPE)).containsSame(handler);
+        assertThat(registry.find("UNKNOWN_EVENT")).isEmpty();
+        assertThat(registry.readPayload(handler, "{\"subscriptionId\":1,\"billingKey\":\"billing-key\"}"))
+                .isEqualTo(new ScheduleCreatePayload(1L, "billing-key"));
+        assertThatThrownBy(() -> registry.readPayload(handler, "not-json"))
+                .isInstanceOf(IllegalStateException.class);
+    }
+
+    private static class TestHandler implements OutboxHandler<ScheduleCreatePayload> {
+        static final String EVENT_TYPE = "TEST_EVENT";
+
+        @Override
+        public String eventType() {
+            return EVENT_TYPE;
+        }
+
+        @Override
+        public Class<ScheduleCreatePayload> payloadType() {
+            return ScheduleCreatePayload.class;
+        }
+
+        @Override
+        public void handle(OutboxEvent event, ScheduleCreatePayload payload) {
+        }
+    }
+}
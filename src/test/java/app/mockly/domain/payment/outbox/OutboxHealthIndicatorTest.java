@@ -0,0 +1,50 @@
+package app.mockly.domain.payment.outbox;
+
+import app.mockly.global.config.OutboxProperties;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.Status;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+@DisplayName("OutboxHealthIndicator 테스트")
+class OutboxHealthIndicatorTest {
+    private OutboxMetrics outboxMetrics;
+    private OutboxHealthIndicator healthIndicator;
+
+    @BeforeEach
+    void setUp() {
+        outboxMetrics = mock(OutboxMetrics.class);
+        OutboxProperties properties = new OutboxProperties();
+        properties.setBacklogAgeThreshold(Duration.ofMinutes(15));
+        healthIndicator = new OutboxHealthIndicator(outboxMetrics, properties);
+    }
+
+    @Test
+    @DisplayName("가장 오래된 대기 이벤트가 기준 이내면 UP")
+    void up_when_backlog_is_fresh() {
+        given(outboxMetrics.oldestPendingAge()).willReturn(Duration.ofMinutes(1));
+        given(outboxMetrics.pendingCount()).willReturn(3L);
+
+        Health health = healthIndicator.health();
+
+        assertThat(health.getStatus()).isEqualTo(Status.UP);
+        assertThat(health.getDetails()).containsEntry("pending", 3L);
+    }
+
+    @Test
+    @DisplayName("가장 오래된 대기 이벤트가 기준을 넘기면 DEGRADED")
+    void degraded_when_backlog_is_stale() {
+        given(outboxMetrics.oldestPendingAge()).willReturn(Duration.ofMinutes(30));
+
+        Health health = healthIndicator.health();
+
+        assertThat(health.getStatus()).isEqualTo(OutboxHealthIndicator.DEGRADED);
+    }
+}
@@ -0,0 +1,78 @@
+package app.mockly.domain.payment.scheduler;
+
+import app.mockly.domain.payment.entity.OutboxEvent;
+import app.mockly.domain.payment.repository.OutboxEventRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@DisplayName("Outbox 보관 작업 테스트")
+class OutboxCompactionJobTest {
+    @Autowired
+    private OutboxCompactionJob compactionJob;
+
+    @Autowired
+    private OutboxEventRepository outboxEventRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @AfterEach
+    void tearDown() {
+        outboxEventRepository.deleteAll();
+        jdbcTemplate.update("DELETE FROM outbox_event_archive");
+    }
+
+    @Test
+    @DisplayName("PROCESSED 이벤트만 보관 테이블로 옮기고 나머지는 남긴다")
+    void moves_only_processed_events() {
+        OutboxEvent processed1 = processedEvent(1L);
+        OutboxEvent processed2 = processedEvent(2L);
+        OutboxEvent pending = outboxEventRepository.save(
+                OutboxEvent.create("TEST", 3L, "TEST_EVENT", Map.of("value", 3)));
+
+        OutboxCompactionJob.CompactionResult result =
+                compactionJob.compact(Instant.now().plus(1, ChronoUnit.MINUTES));
+
+        assertThat(result.rowsMoved()).isEqualTo(2);
+        assertThat(outboxEventRepository.findById(processed1.getId())).isEmpty();
+        assertThat(outboxEventRepository.findById(processed2.getId())).isEmpty();
+        assertThat(outboxEventRepository.findById(pending.getId())).isPresent();
+        assertThat(archivedAggregateIds(processed1.getId())).containsExactly(1L);
+        assertThat(archivedAggregateIds(processed2.getId())).containsExactly(2L);
+    }
+
+    @Test
+    @DisplayName("보관 기준 시각 이후에 처리된 이벤트는 옮기지 않는다")
+    void keeps_recently_processed_events() {
+        OutboxEvent processed = processedEvent(1L);
+
+        OutboxCompactionJob.CompactionResult result =
+                compactionJob.compact(Instant.now().minus(1, ChronoUnit.DAYS));
+
+        assertThat(result.rowsMoved()).isZero();
+        assertThat(outboxEventRepository.findById(processed.getId())).isPresent();
+        assertThat(archivedAggregateIds(processed.getId())).isEmpty();
+    }
+
+    private List<Long> archivedAggregateIds(Long id) {
+        return jdbcTemplate.queryForList("SELECT aggregate_id FROM outbox_event_archive WHERE id = ?", Long.class, id);
+    }
+
+    private OutboxEvent processedEvent(Long aggregateId) {
+        OutboxEvent event = OutboxEvent.create("TEST", aggregateId, "TEST_EVENT", Map.of("value", aggregateId));
+        event.markAsProcessed();
+        return outboxEventRepository.save(event);
+    }
+}
@@ -0,0 +1,384 @@
+package app.mockly.domain.payment.scheduler;
+
+import app.mockly.domain.auth.service.TokenBlacklistService;
+import app.mockly.domain.payment.client.PortOneService;
+import app.mockly.domain.payment.entity.OutboxEvent;
+import app.mockly.domain.payment.entity.OutboxEventStatus;
+import app.mockly.domain.payment.event.OutboxEventCreatedEvent;
+import app.mockly.domain.payment.outbox.OutboxHandler;
+import app.mockly.domain.payment.outbox.OutboxHandlerRegistry;
+import app.mockly.domain.payment.outbox.OutboxMetrics;
+import app.mockly.domain.payment.repository.InvoiceRepository;
+import app.mockly.domain.payment.repository.OutboxEventRepository;
+import app.mockly.domain.payment.repository.PaymentRepository;
+import app.mockly.domain.product.entity.*;
+import app.mockly.domain.product.repository.SubscriptionPlanRepository;
+import app.mockly.domain.product.repository.SubscriptionProductRepository;
+import app.mockly.domain.product.repository.SubscriptionRepository;
+import app.mockly.domain.payment.service.OutboxEventService;
+import app.mockly.global.common.ApiStatusCode;
+import app.mockly.global.config.OutboxProperties;
+import app.mockly.global.exception.BusinessException;
+import app.mockly.global.scheduling.SchedulerLock;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Predicate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@SpringBootTest
+@DisplayName("Outbox 디스패처 테스트")
+class OutboxEventProcessorTest {
+    @Autowired
+    private OutboxEventProcessor processor;
+
+    @Autowired
+    private OutboxEventRepository outboxEventRepository;
+
+    @Autowired
+    private OutboxEventService outboxEventService;
+
+    @Autowired
+    private RecordingHandler recordingHandler;
+
+    @Autowired
+    private SubscriptionRepository subscriptionRepository;
+
+    @Autowired
+    private SubscriptionPlanRepository subscriptionPlanRepository;
+
+    @Autowired
+    private SubscriptionProductRepository subscriptionProductRepository;
+
+    @Autowired
+    private InvoiceRepository invoiceRepository;
+
+    @Autowired
+    private PaymentRepository paymentRepository;
+
+    @MockitoBean
+    private PortOneService portOneService;
+
+    @MockitoBean
+    private TokenBlacklistService tokenBlacklistService;
+
+    private SubscriptionPlan plan;
+
+    @BeforeEach
+    void setUp() {
+        recordingHandler.reset();
+        SubscriptionProduct product = subscriptionProductRepository.save(SubscriptionProduct.builder()
+                .name("테스트 상품")
+                .description("테스트용 구독 상품")
+                .build());
+        plan = subscriptionPlanRepository.save(SubscriptionPlan.builder()
+                .product(product)
+                .price(new BigDecimal("9900"))
+                .currency(Currency.KRW)
+                .billingCycle(BillingCycle.MONTHLY)
+                .build());
+    }
+
+    @AfterEach
+    void tearDown() {
+        outboxEventRepository.deleteAll();
+        paymentRepository.deleteAll();
+        invoiceRepository.deleteAll();
+        subscriptionRepository.deleteAll();
+        subscriptionPlanRepository.deleteAll();
+        subscriptionProductRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("PortOne에 예약이 이미 있으면 재시도하지 않고 사유와 함께 바로 FAILED")
+    void duplicate_schedule_fails_without_retry() {
+        Subscription subscription = activeSubscription();
+        given(portOneService.createPaymentSchedule(anyString(), anyString(), anyString(), any(), any(), any()))
+                .willThrow(new BusinessException(ApiStatusCode.DUPLICATE_RESOURCE, "결제 예약이 이미 존재합니다."));
+
+        OutboxEvent event = outboxEventRepository.save(OutboxEvent.scheduleCreate(subscription.getId(), "billing-key"));
+        processor.processOutboxEvents();
+
+        OutboxEvent failed = awaitEvent(event.getId(), e -> e.getStatus() == OutboxEventStatus.FAILED);
+        assertThat(failed.getRetryCount()).isZero();
+        assertThat(failed.getFailReason()).startsWith("PAYMENT_SCHEDULE_ALREADY_EXISTS");
+        verify(portOneService, times(1)).createPaymentSchedule(anyString(), anyString(), anyString(), any(), any(), any());
+        assertThat(subscriptionRepository.findById(subscription.getId()).orElseThrow().getCurrentPaymentScheduleId()).isNull();
+        // 예약에 실패한 청구서/결제는 남기지 않는다
+        assertThat(paymentRepository.count()).isZero();
+        assertThat(invoiceRepository.count()).isZero();
+    }
+
+    @Test
+    @DisplayName("결제 예약에 성공하면 scheduleId를 기록하고 이벤트를 PROCESSED로 바꾼다")
+    void schedule_create_records_schedule_id() {
+        Subscription subscription = activeSubscription();
+        given(portOneService.createPaymentSchedule(anyString(), anyString(), anyString(), any(), any(), any()))
+                .willReturn("schedule-1");
+
+        OutboxEvent event = outboxEventRepository.save(OutboxEvent.scheduleCreate(subscription.getId(), "billing-key"));
+        processor.processOutboxEvents();
+
+        awaitEvent(event.getId(), e -> e.getStatus() == OutboxEventStatus.PROCESSED);
+        assertThat(subscriptionRepository.findById(subscription.getId()).orElseThrow().getCurrentPaymentScheduleId())
+                .isEqualTo("schedule-1");
+        assertThat(paymentRepository.count()).isOne();
+        assertThat(invoiceRepository.count()).isOne();
+    }
+
+    @Test
+    @DisplayName("같은 aggregate의 이벤트는 id 순서대로 하나씩 처리된다")
+    void processes_same_aggregate_in_id_order() {
+        List<OutboxEvent> events = outboxEventRepository.saveAll(List.of(
+                testEvent(1L, 1), testEvent(2L, 1), testEvent(1L, 2),
+                testEvent(1L, 3), testEvent(2L, 2), testEvent(1L, 4)));
+        processor.processOutboxEvents();
+
+        events.forEach(event -> awaitEvent(event.getId(), e -> e.getStatus() == OutboxEventStatus.PROCESSED));
+        assertThat(recordingHandler.handledOf(1L)).containsExactly(1, 2, 3, 4);
+        assertThat(recordingHandler.handledOf(2L)).containsExactly(1, 2);
+    }
+
+    @Test
+    @DisplayName("앞선 이벤트가 재시도 대기 중이면 같은 aggregate의 뒤 이벤트는 선점하지 않는다")
+    void earlier_event_in_backoff_blocks_later_one() {
+        OutboxEvent backingOff = testEvent(1L, 1);
+        backingOff.recordRetryFailure("이전 실패", Instant.now().plus(Duration.ofHours(1)));
+        OutboxEvent later = testEvent(1L, 2);
+        OutboxEvent otherAggregate = testEvent(2L, 1);
+        outboxEventRepository.saveAll(List.of(backingOff, later, otherAggregate));
+        processor.processOutboxEvents();
+
+        awaitEvent(otherAggregate.getId(), e -> e.getStatus() == OutboxEventStatus.PROCESSED);
+        sleep(Duration.ofMillis(300));
+        OutboxEvent blocked = outboxEventRepository.findById(later.getId()).orElseThrow();
+        assertThat(blocked.getStatus()).isEqualTo(OutboxEventStatus.PENDING);
+        assertThat(blocked.getLockedBy()).isNull();
+        assertThat(recordingHandler.handledOf(1L)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("다른 노드가 선점 중인 이벤트와 그 뒤 이벤트는 건너뛰고, lease가 만료된 이벤트는 다시 선점한다")
+    void skips_events_leased_by_another_owner() {
+        OutboxEvent leased = testEvent(1L, 1);
+        leased.claim("other-node", Instant.now().plus(Duration.ofMinutes(5)));
+        OutboxEvent behindLeased = testEvent(1L, 2);
+        OutboxEvent expired = testEvent(2L, 1);
+        expired.claim("other-node", Instant.now().minusSeconds(1));
+        outboxEventRepository.saveAll(List.of(leased, behindLeased, expired));
+        processor.processOutboxEvents();
+
+        awaitEvent(expired.getId(), e -> e.getStatus() == OutboxEventStatus.PROCESSED);
+        sleep(Duration.ofMillis(300));
+        OutboxEvent stillLeased = outboxEventRepository.findById(leased.getId()).orElseThrow();
+        assertThat(stillLeased.getStatus()).isEqualTo(OutboxEventStatus.PENDING);
+        assertThat(stillLeased.getLockedBy()).isEqualTo("other-node");
+        assertThat(outboxEventRepository.findById(behindLeased.getId()).orElseThrow().getLockedBy()).isNull();
+        assertThat(recordingHandler.handledOf(1L)).isEmpty();
+        assertThat(recordingHandler.handledOf(2L)).containsExactly(1);
+    }
+
+    @Test
+    @DisplayName("핸들러가 실패하면 재시도 횟수를 늘리고 백오프 후로 미룬다")
+    void failed_handler_is_retried_with_backoff() {
+        recordingHandler.failOnce(1L, 1);
+        OutboxEvent event = outboxEventRepository.save(testEvent(1L, 1));
+        processor.processOutboxEvents();
+
+        OutboxEvent retried = awaitEvent(event.getId(), e -> e.getRetryCount() == 1);
+        assertThat(retried.getStatus()).isEqualTo(OutboxEventStatus.PENDING);
+        assertThat(retried.getFailReason()).isEqualTo("테스트 실패");
+        assertThat(retried.getLockedBy()).isNull();
+        // retry-base-delay 30s의 절반 이상 (jitter)
+        assertThat(retried.getNextAttemptAt()).isAfter(Instant.now().plus(Duration.ofSeconds(10)));
+    }
+
+    @Test
+    @DisplayName("핸들러가 없는 이벤트 타입은 바로 FAILED")
+    void unknown_event_type_fails() {
+        OutboxEvent event = outboxEventRepository.save(OutboxEvent.create("TEST", 1L, "UNKNOWN_EVENT", new TestPayload(1)));
+        processor.processOutboxEvents();
+
+        OutboxEvent failed = awaitEvent(event.getId(), e -> e.getStatus() == OutboxEventStatus.FAILED);
+        assertThat(failed.getFailReason()).contains("UNKNOWN_EVENT");
+    }
+
+    @Test
+    @DisplayName("재처리하면 FAILED 이벤트의 재시도 횟수와 다음 시도 시각이 초기화된다")
+    void replay_resets_retry_state() {
+        OutboxEvent single = failedEvent(1L);
+        OutboxEvent bulk = failedEvent(2L);
+
+        outboxEventService.replay(single.getId());
+        outboxEventService.replayAllFailed();
+
+        for (OutboxEvent event : List.of(single, bulk)) {
+            OutboxEvent replayed = outboxEventRepository.findById(event.getId()).orElseThrow();
+            assertThat(replayed.getStatus()).isIn(OutboxEventStatus.PENDING, OutboxEventStatus.PROCESSED);
+            assertThat(replayed.getRetryCount()).isZero();
+            assertThat(replayed.getNextAttemptAt()).isBeforeOrEqualTo(Instant.now());
+            assertThat(replayed.getLockedBy()).isNull();
+        }
+    }
+
+    @Test
+    @DisplayName("재처리 요청이 커밋되면 폴링을 기다리지 않고 바로 처리한다")
+    void replay_wakes_dispatcher() {
+        OutboxEvent single = failedEvent(1L);
+        OutboxEvent bulk = failedEvent(2L);
+
+        outboxEventService.replay(single.getId());
+        awaitEvent(single.getId(), e -> e.getStatus() == OutboxEventStatus.PROCESSED);
+        assertThat(outboxEventRepository.findById(bulk.getId()).orElseThrow().getStatus()).isEqualTo(OutboxEventStatus.FAILED);
+
+        outboxEventService.replayAllFailed();
+        awaitEvent(bulk.getId(), e -> e.getStatus() == OutboxEventStatus.PROCESSED);
+    }
+
+    @Test
+    @DisplayName("커밋 직후 깨우기 요청은 처리 전까지 한 번으로 합쳐진다")
+    void coalesces_wake_ups() {
+        TaskScheduler taskScheduler = mock(TaskScheduler.class);
+        OutboxEventProcessor isolated = new OutboxEventProcessor(
+                mock(OutboxEventRepository.class), mock(OutboxHandlerRegistry.class), new OutboxProperties(),
+                mock(OutboxMetrics.class), mock(ThreadPoolTaskExecutor.class), taskScheduler,
+                mock(SchedulerLock.class), mock(PlatformTransactionManager.class));
+        OutboxEventCreatedEvent created = new OutboxEventCreatedEvent(1L, TestPayload.EVENT_TYPE);
+
+        isolated.onOutboxEventCreated(created);
+        isolated.onOutboxEventCreated(created);
+        isolated.onOutboxEventCreated(created);
+        verify(taskScheduler, times(1)).schedule(any(Runnable.class), any(Instant.class));
+
+        // 깨우기가 실행된 뒤의 커밋은 다시 깨운다
+        isolated.processOutboxEvents();
+        isolated.onOutboxEventCreated(created);
+        verify(taskScheduler, times(2)).schedule(any(Runnable.class), any(Instant.class));
+    }
+
+    private OutboxEvent testEvent(Long aggregateId, int sequence) {
+        return OutboxEvent.create("TEST", aggregateId, TestPayload.EVENT_TYPE, new TestPayload(sequence));
+    }
+
+    private OutboxEvent failedEvent(Long aggregateId) {
+        OutboxEvent event = testEvent(aggregateId, 1);
+        event.recordRetryFailure("실패", Instant.now().plus(Duration.ofHours(1)));
+        event.recordRetryFailure("실패", Instant.now().plus(Duration.ofHours(2)));
+        event.markAsFailed("최종 실패");
+        return outboxEventRepository.save(event);
+    }
+
+    private Subscription activeSubscription() {
+        Subscription subscription = Subscription.create(UUID.randomUUID(), plan);
+        subscription.activate();
+        return subscriptionRepository.save(subscription);
+    }
+
+    /**
+     * 처리는 워커 스레드에서 비동기로 진행되므로 조건을 만족할 때까지 조회
+     */
+    private OutboxEvent awaitEvent(Long id, Predicate<OutboxEvent> condition) {
+        long deadline = System.nanoTime() + Duration.ofSeconds(5).toNanos();
+        OutboxEvent event = outboxEventRepository.findById(id).orElseThrow();
+        while (!condition.test(event)) {
+            if (System.nanoTime() > deadline) {
+                throw new AssertionError("Outbox 이벤트가 기대한 상태가 되지 않음 - status: " + event.getStatus()
+                        + ", retryCount: " + event.getRetryCount() + ", failReason: " + event.getFailReason());
+            }
+            sleep(Duration.ofMillis(50));
+            event = outboxEventRepository.findById(id).orElseThrow();
+        }
+        return event;
+    }
+
+    private static void sleep(Duration duration) {
+        try {
+            Thread.sleep(duration);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new AssertionError(e);
+        }
+    }
+
+    record TestPayload(int sequence) {
+        static final String EVENT_TYPE = "TEST_ORDERED";
+    }
+
+    /**
+     * 처리 순서를 기록하는 테스트 핸들러 (failOnce로 지정한 이벤트는 한 번 실패)
+     */
+    static class RecordingHandler implements OutboxHandler<TestPayload> {
+        private final List<String> handled = new CopyOnWriteArrayList<>();
+        private final Set<String> failOnce = ConcurrentHashMap.newKeySet();
+
+        @Override
+        public String eventType() {
+            return TestPayload.EVENT_TYPE;
+        }
+
+        @Override
+        public Class<TestPayload> payloadType() {
+            return TestPayload.class;
+        }
+
+        @Override
+        public void handle(OutboxEvent event, TestPayload payload) {
+            String key = event.getAggregateId() + ":" + payload.sequence();
+            if (failOnce.remove(key)) {
+                throw new IllegalStateException("테스트 실패");
+            }
+            sleep(Duration.ofMillis(20)); // 순서가 뒤섞일 여지를 둔다
+            handled.add(key);
+        }
+
+        void failOnce(Long aggregateId, int sequence) {
+            failOnce.add(aggregateId + ":" + sequence);
+        }
+
+        List<Integer> handledOf(Long aggregateId) {
+            String prefix = aggregateId + ":";
+            return handled.stream()
+                    .filter(key -> key.startsWith(prefix))
+                    .map(key -> Integer.parseInt(key.substring(prefix.length())))
+                    .toList();
+        }
+
+        void reset() {
+            handled.clear();
+            failOnce.clear();
+        }
+    }
+
+    @TestConfiguration
+    static class RecordingHandlerConfig {
+        @Bean
+        RecordingHandler recordingHandler() {
+            return new RecordingHandler();
+        }
+    }
+}
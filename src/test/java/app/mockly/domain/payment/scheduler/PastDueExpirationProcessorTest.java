@@ -0,0 +1,249 @@
+package app.mockly.domain.payment.scheduler;
+
+import app.mockly.domain.auth.service.TokenBlacklistService;
+import app.mockly.domain.payment.client.PortOneService;
+import app.mockly.domain.payment.entity.JobCheckpoint;
+import app.mockly.domain.payment.entity.JobCheckpointStatus;
+import app.mockly.domain.payment.repository.JobCheckpointRepository;
+import app.mockly.domain.product.entity.*;
+import app.mockly.domain.product.repository.SubscriptionPlanRepository;
+import app.mockly.domain.product.repository.SubscriptionProductRepository;
+import app.mockly.domain.product.repository.SubscriptionRepository;
+import app.mockly.global.common.ApiStatusCode;
+import app.mockly.global.config.PastDueExpirationProperties;
+import app.mockly.global.exception.BusinessException;
+import app.mockly.global.scheduling.SchedulerLease;
+import app.mockly.global.scheduling.SchedulerLock;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@SpringBootTest
+@DisplayName("PAST_DUE 만료 처리 테스트")
+class PastDueExpirationProcessorTest {
+    @Autowired
+    private PastDueExpirationProcessor processor;
+
+    @Autowired
+    private PastDueExpirationProperties properties;
+
+    @Autowired
+    private SubscriptionRepository subscriptionRepository;
+
+    @Autowired
+    private SubscriptionPlanRepository subscriptionPlanRepository;
+
+    @Autowired
+    private SubscriptionProductRepository subscriptionProductRepository;
+
+    @Autowired
+    private JobCheckpointRepository jobCheckpointRepository;
+
+    @MockitoBean
+    private PortOneService portOneService;
+
+    @MockitoBean
+    private TokenBlacklistService tokenBlacklistService;
+
+    @MockitoBean
+    private SchedulerLock schedulerLock;
+
+    private SubscriptionPlan plan;
+    private Duration originalGracePeriod;
+    private int originalChunkSize;
+
+    @BeforeEach
+    void setUp() {
+        originalGracePeriod = properties.getGracePeriod();
+        originalChunkSize = properties.getChunkSize();
+        // 방금 PAST_DUE가 된 구독도 대상이 되도록 기준 시각을 미래로
+        properties.setGracePeriod(Duration.ofDays(-1));
+        properties.setChunkSize(2);
+
+        // 요청한 예약이 모두 취소된 것으로 응답
+        given(portOneService.revokePaymentSchedules(anyList()))
+                .willAnswer(invocation -> new HashSet<String>(invocation.getArgument(0)));
+        runWithLease(SchedulerLease.local(PastDueExpirationProcessor.JOB_NAME));
+        given(schedulerLock.extend(any())).willReturn(true);
+
+        SubscriptionProduct product = subscriptionProductRepository.save(SubscriptionProduct.builder()
+                .name("테스트 상품")
+                .description("테스트용 구독 상품")
+                .build());
+        plan = subscriptionPlanRepository.save(SubscriptionPlan.builder()
+                .product(product)
+                .price(new BigDecimal("9900"))
+                .currency(Currency.KRW)
+                .billingCycle(BillingCycle.MONTHLY)
+                .build());
+    }
+
+    @AfterEach
+    void tearDown() {
+        properties.setGracePeriod(originalGracePeriod);
+        properties.setChunkSize(originalChunkSize);
+        jobCheckpointRepository.deleteAll();
+        subscriptionRepository.deleteAll();
+        subscriptionPlanRepository.deleteAll();
+        subscriptionProductRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("여러 chunk에 걸쳐 모든 대상 구독을 만료하고 진행 위치를 완료로 기록")
+    void expires_all_chunks_and_completes_checkpoint() {
+        Subscription withSchedule = pastDueSubscription("schedule-1");
+        Subscription second = pastDueSubscription(null);
+        Subscription third = pastDueSubscription(null);
+
+        processor.processExpiredPastDueSubscriptions();
+
+        assertThat(statusOf(withSchedule)).isEqualTo(SubscriptionStatus.EXPIRED);
+        assertThat(statusOf(second)).isEqualTo(SubscriptionStatus.EXPIRED);
+        assertThat(statusOf(third)).isEqualTo(SubscriptionStatus.EXPIRED);
+        verify(portOneService, times(1)).revokePaymentSchedules(List.of("schedule-1"));
+
+        JobCheckpoint checkpoint = jobCheckpointRepository.findById(PastDueExpirationProcessor.JOB_NAME).orElseThrow();
+        assertThat(checkpoint.getStatus()).isEqualTo(JobCheckpointStatus.COMPLETED);
+        assertThat(checkpoint.getProcessedCount()).isEqualTo(3);
+        assertThat(checkpoint.getLastProcessedId()).isEqualTo(third.getId());
+    }
+
+    @Test
+    @DisplayName("중단된 실행이 있으면 마지막으로 기록된 위치 이후부터 재개")
+    void resumes_from_checkpoint() {
+        Subscription alreadyHandled = pastDueSubscription("schedule-1");
+        Subscription remaining = pastDueSubscription(null);
+
+        JobCheckpoint interrupted = JobCheckpoint.start(PastDueExpirationProcessor.JOB_NAME, Instant.now().plus(Duration.ofDays(1)));
+        interrupted.advance(alreadyHandled.getId(), 1);
+        jobCheckpointRepository.save(interrupted);
+
+        processor.processExpiredPastDueSubscriptions();
+
+        assertThat(statusOf(alreadyHandled)).isEqualTo(SubscriptionStatus.PAST_DUE);
+        assertThat(statusOf(remaining)).isEqualTo(SubscriptionStatus.EXPIRED);
+        verify(portOneService, never()).revokePaymentSchedules(anyList());
+        assertThat(jobCheckpointRepository.findById(PastDueExpirationProcessor.JOB_NAME).orElseThrow().getProcessedCount())
+                .isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("chunk의 예약을 한 번에 취소하고, 취소되지 않은 예약의 구독만 PAST_DUE로 남긴다")
+    void revokes_schedules_in_batch_and_keeps_unrevoked() {
+        Subscription revoked = pastDueSubscription("schedule-1");
+        Subscription notRevoked = pastDueSubscription("schedule-2");
+        given(portOneService.revokePaymentSchedules(anyList())).willReturn(Set.of("schedule-1"));
+
+        processor.processExpiredPastDueSubscriptions();
+
+        verify(portOneService, times(1)).revokePaymentSchedules(List.of("schedule-1", "schedule-2"));
+        assertThat(statusOf(revoked)).isEqualTo(SubscriptionStatus.EXPIRED);
+        assertThat(statusOf(notRevoked)).isEqualTo(SubscriptionStatus.PAST_DUE);
+        assertThat(subscriptionRepository.findById(notRevoked.getId()).orElseThrow().getCurrentPaymentScheduleId())
+                .isEqualTo("schedule-2");
+    }
+
+    @Test
+    @DisplayName("일괄 취소가 실패하면 나눠서 다시 시도해 실패한 예약만 남긴다")
+    void splits_failed_batch() {
+        Subscription first = pastDueSubscription("schedule-1");
+        Subscription broken = pastDueSubscription("schedule-2");
+        given(portOneService.revokePaymentSchedules(anyList())).willAnswer(invocation -> {
+            List<String> scheduleIds = invocation.getArgument(0);
+            if (scheduleIds.contains("schedule-2")) {
+                throw new BusinessException(ApiStatusCode.INTERNAL_SERVER_ERROR, "결제 예약 취소 도중 오류가 발생했습니다.");
+            }
+            return new HashSet<>(scheduleIds);
+        });
+
+        processor.processExpiredPastDueSubscriptions();
+
+        assertThat(statusOf(first)).isEqualTo(SubscriptionStatus.EXPIRED);
+        assertThat(statusOf(broken)).isEqualTo(SubscriptionStatus.PAST_DUE);
+    }
+
+    @Test
+    @DisplayName("Redis 펜싱 카운터가 기록된 토큰보다 뒤처져 있으면 카운터를 올리고 새 토큰으로 실행")
+    void advances_fence_behind_stored_token() {
+        Subscription subscription = pastDueSubscription(null);
+        saveCompletedCheckpoint(100L);
+        SchedulerLease stale = new SchedulerLease(PastDueExpirationProcessor.JOB_NAME, "owner", 3L);
+        SchedulerLease advanced = new SchedulerLease(PastDueExpirationProcessor.JOB_NAME, "owner", 101L);
+        runWithLease(stale);
+        given(schedulerLock.advanceFence(stale, 100L)).willReturn(Optional.of(advanced));
+
+        processor.processExpiredPastDueSubscriptions();
+
+        verify(schedulerLock).reportRejected(stale, 100L);
+        assertThat(statusOf(subscription)).isEqualTo(SubscriptionStatus.EXPIRED);
+        JobCheckpoint checkpoint = jobCheckpointRepository.findById(PastDueExpirationProcessor.JOB_NAME).orElseThrow();
+        assertThat(checkpoint.getStatus()).isEqualTo(JobCheckpointStatus.COMPLETED);
+        assertThat(checkpoint.getFencingToken()).isEqualTo(101L);
+    }
+
+    @Test
+    @DisplayName("펜싱 카운터를 올리지 못하면 (잠금을 잃음) 시작하지 않는다")
+    void skips_when_fence_cannot_be_advanced() {
+        Subscription subscription = pastDueSubscription(null);
+        saveCompletedCheckpoint(100L);
+        SchedulerLease stale = new SchedulerLease(PastDueExpirationProcessor.JOB_NAME, "owner", 3L);
+        runWithLease(stale);
+        given(schedulerLock.advanceFence(eq(stale), eq(100L))).willReturn(Optional.empty());
+
+        processor.processExpiredPastDueSubscriptions();
+
+        assertThat(statusOf(subscription)).isEqualTo(SubscriptionStatus.PAST_DUE);
+        assertThat(jobCheckpointRepository.findById(PastDueExpirationProcessor.JOB_NAME).orElseThrow().getFencingToken())
+                .isEqualTo(100L);
+    }
+
+    private void runWithLease(SchedulerLease lease) {
+        given(schedulerLock.runExclusively(eq(PastDueExpirationProcessor.JOB_NAME), any(), any())).willAnswer(invocation -> {
+            Consumer<SchedulerLease> task = invocation.getArgument(2);
+            task.accept(lease);
+            return true;
+        });
+    }
+
+    private void saveCompletedCheckpoint(Long fencingToken) {
+        JobCheckpoint checkpoint = JobCheckpoint.start(PastDueExpirationProcessor.JOB_NAME, Instant.now());
+        checkpoint.acceptFencingToken(fencingToken);
+        checkpoint.complete();
+        jobCheckpointRepository.save(checkpoint);
+    }
+
+    private Subscription pastDueSubscription(String scheduleId) {
+        Subscription subscription = Subscription.create(UUID.randomUUID(), plan);
+        subscription.activate();
+        subscription.markAsPastDue();
+        subscription.setCurrentPaymentScheduleId(scheduleId);
+        return subscriptionRepository.save(subscription);
+    }
+
+    private SubscriptionStatus statusOf(Subscription subscription) {
+        return subscriptionRepository.findById(subscription.getId()).orElseThrow().getStatus();
+    }
+}
@@ -11,8 +11,6 @@ import app.mockly.domain.payment.repository.PaymentMethodRepository;
 import app.mockly.domain.product.dto.request.CreateSubscriptionRequest;
 import app.mockly.domain.product.dto.request.UpdatePaymentMethodRequest;
 import app.mockly.domain.product.entity.*;
-import io.portone.sdk.server.payment.PayWithBillingKeyResponse;
-import io.portone.sdk.server.payment.billingkey.BillingKeyInfo;
 import app.mockly.domain.product.repository.SubscriptionPlanRepository;
 import app.mockly.domain.product.repository.SubscriptionProductRepository;
 import app.mockly.domain.product.repository.SubscriptionRepository;
@@ -34,7 +32,7 @@ import java.math.BigDecimal;
 
 import static com.epages.restdocs.apispec.MockMvcRestDocumentationWrapper.document;
 import static com.epages.restdocs.apispec.ResourceDocumentation.resource;
-import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.BDDMockito.given;
 import static org.springframework.restdocs.mockmvc.RestDocumentationRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
@@ -97,7 +95,7 @@ class SubscriptionControllerTest {
         validAccessToken = jwtService.generateAccessToken(testUser.getId());
 
         // 토큰 블랙리스트 모킹
-        given(tokenBlacklistService.isBlacklisted(anyString())).willReturn(false);
+        given(tokenBlacklistService.isBlacklisted(any())).willReturn(false);
 
         // 테스트 상품 및 플랜 생성
         SubscriptionProduct freeProduct = SubscriptionProduct.builder()
@@ -28,7 +28,7 @@ import java.util.List;
 
 import static com.epages.restdocs.apispec.MockMvcRestDocumentationWrapper.document;
 import static com.epages.restdocs.apispec.ResourceDocumentation.resource;
-import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.BDDMockito.given;
 import static org.springframework.restdocs.mockmvc.RestDocumentationRequestBuilders.get;
 import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
@@ -83,7 +83,7 @@ class SubscriptionProductControllerTest {
         validAccessToken = jwtService.generateAccessToken(testUser.getId());
 
         // 토큰 블랙리스트 모킹
-        given(tokenBlacklistService.isBlacklisted(anyString())).willReturn(false);
+        given(tokenBlacklistService.isBlacklisted(any())).willReturn(false);
 
         // 테스트 상품 및 플랜 생성
         SubscriptionProduct freeProduct = SubscriptionProduct.builder()
@@ -0,0 +1,40 @@
+package app.mockly.global.config;
+
+import app.mockly.domain.auth.service.TokenBlacklistService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@AutoConfigureObservability
+@DisplayName("actuator 엔드포인트 권한 테스트")
+class ActuatorSecurityTest {
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockitoBean
+    private TokenBlacklistService tokenBlacklistService;
+
+    @Test
+    @DisplayName("Prometheus 수집은 사용자 토큰 없이 가능")
+    void prometheus_is_scrapable_without_token() throws Exception {
+        mockMvc.perform(get("/actuator/prometheus"))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    @DisplayName("Prometheus 외의 actuator 엔드포인트는 여전히 토큰 필요")
+    void other_endpoints_require_token() throws Exception {
+        mockMvc.perform(get("/actuator/outbox"))
+                .andExpect(status().isUnauthorized());
+    }
+}